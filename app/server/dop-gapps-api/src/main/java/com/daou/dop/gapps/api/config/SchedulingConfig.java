@@ -0,0 +1,14 @@
+package com.daou.dop.gapps.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * spring.threads.virtual.enabled=true 이면 @Scheduled 작업도 Virtual Threads에서 실행
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.daou.dop.gapps.api.connection.controller;
 
+import com.daou.dop.gapps.api.connection.dto.ConnectionCredentialStatusResponse;
 import com.daou.dop.gapps.api.connection.dto.ConnectionResponse;
 import com.daou.dop.gapps.api.connection.dto.CreateConnectionRequest;
 import com.daou.dop.gapps.core.connection.ConnectionService;
@@ -12,6 +13,7 @@ import java.util.Map;
 /**
  * Connection API
  * - GET /api/connections: 활성 연동 목록 조회
+ * - GET /api/connections/credential-status?pluginId=: 플러그인별 활성 연동의 인증 상태 목록
  * - POST /api/connections: 간단한 연동 생성
  */
 @RestController
@@ -39,6 +41,20 @@ public class ConnectionController {
         return ResponseEntity.ok(connections);
     }
 
+    /**
+     * 플러그인별 활성 연동의 인증 상태 목록 조회
+     * 토큰을 복호화하지 않는 프로젝션 한 번으로 조회하므로 연동 수가 많은 목록 화면에 사용한다.
+     */
+    @GetMapping("/credential-status")
+    public ResponseEntity<List<ConnectionCredentialStatusResponse>> getCredentialStatuses(
+            @RequestParam String pluginId) {
+        List<ConnectionCredentialStatusResponse> statuses = connectionService.findActiveCredentialStatuses(pluginId)
+                .stream()
+                .map(ConnectionCredentialStatusResponse::from)
+                .toList();
+        return ResponseEntity.ok(statuses);
+    }
+
     /**
      * 간단한 연동 생성 (Service Account, Local ADC 등)
      */
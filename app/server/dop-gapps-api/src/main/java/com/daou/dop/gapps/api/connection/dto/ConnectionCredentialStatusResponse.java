@@ -0,0 +1,38 @@
+package com.daou.dop.gapps.api.connection.dto;
+
+import com.daou.dop.gapps.core.dto.ConnectionCredentialStatus;
+
+import java.time.Instant;
+
+/**
+ * 플러그인별 연동 인증 상태 목록 응답 DTO
+ *
+ * @param id            Connection ID
+ * @param pluginId      플러그인 ID
+ * @param externalId    외부 시스템 ID
+ * @param externalName  표시용 이름
+ * @param hasCredential OAuth 인증 정보 존재 여부
+ * @param expiresAt     토큰 만료 시간 (인증 정보 없으면 null)
+ */
+public record ConnectionCredentialStatusResponse(
+        Long id,
+        String pluginId,
+        String externalId,
+        String externalName,
+        boolean hasCredential,
+        Instant expiresAt
+) {
+    /**
+     * Core DTO → API DTO 변환
+     */
+    public static ConnectionCredentialStatusResponse from(ConnectionCredentialStatus status) {
+        return new ConnectionCredentialStatusResponse(
+                status.connectionId(),
+                status.pluginId(),
+                status.externalId(),
+                status.externalName(),
+                status.hasCredential(),
+                status.expiresAt()
+        );
+    }
+}
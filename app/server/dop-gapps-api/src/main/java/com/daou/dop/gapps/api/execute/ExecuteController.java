@@ -1,13 +1,23 @@
 package com.daou.dop.gapps.api.execute;
 
+import com.daou.dop.gapps.core.dto.ExecuteBatchCommand;
+import com.daou.dop.gapps.core.dto.ExecuteBatchResult;
 import com.daou.dop.gapps.core.dto.ExecuteCommand;
+import com.daou.dop.gapps.core.dto.ExecuteParallelCommand;
+import com.daou.dop.gapps.core.dto.ExecuteParallelResult;
 import com.daou.dop.gapps.core.dto.ExecuteResult;
 import com.daou.dop.gapps.core.execute.PluginExecutorService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -37,8 +47,68 @@ public class ExecuteController {
     public ResponseEntity<ExecuteResult> execute(@RequestBody ExecuteCommand command) {
         ExecuteResult result = executorService.execute(command);
 
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(result.statusCode());
+        if (result.retryAfterSeconds() != null) {
+            // 호출 한도 초과: 재시도 가능 시간 안내
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(result.retryAfterSeconds()));
+        }
+        return response.body(result);
+    }
+
+    /**
+     * 플러그인 API 일괄 실행 (여러 연동에 같은 액션 실행)
+     *
+     * POST /execute/batch
+     * {
+     *   "pluginId": "slack",
+     *   "action": "chat.postMessage",
+     *   "params": {
+     *     "channel": "C123",
+     *     "text": "Hello"
+     *   },
+     *   "externalIds": ["T123456", "T234567"]
+     * }
+     */
+    @PostMapping("/execute/batch")
+    public ResponseEntity<ExecuteBatchResult> executeBatch(@RequestBody ExecuteBatchCommand command) {
+        ExecuteBatchResult result = executorService.executeBatch(command);
+
         return ResponseEntity
                 .status(result.statusCode())
                 .body(result);
     }
+
+    /**
+     * 플러그인 API 병렬 실행 (여러 플러그인/액션을 동시에 호출)
+     *
+     * POST /execute/parallel
+     * X-Request-Timeout-Ms: 5000   (선택, 기본 execute.parallel.default-timeout)
+     * {
+     *   "calls": [
+     *     { "pluginId": "jira", "action": "search", "params": { "externalId": "cloud-1" } },
+     *     { "pluginId": "ms365-calendar", "action": "events.list", "params": { "externalId": "tenant-1" } }
+     *   ]
+     * }
+     *
+     * 마감을 넘긴 호출은 504 결과로 채워지며, 클라이언트 연결이 끊기거나 비동기 요청이 만료되면 진행 중인 호출을 취소한다.
+     */
+    @PostMapping("/execute/parallel")
+    public DeferredResult<ResponseEntity<ExecuteParallelResult>> executeParallel(
+            @RequestBody ExecuteParallelCommand command,
+            @RequestHeader(value = "X-Request-Timeout-Ms", required = false) Long timeoutMs) {
+        Duration timeout = timeoutMs != null ? Duration.ofMillis(timeoutMs) : null;
+        CompletableFuture<ExecuteParallelResult> future = executorService.executeParallel(command, timeout);
+
+        DeferredResult<ResponseEntity<ExecuteParallelResult>> deferred = new DeferredResult<>();
+        deferred.onTimeout(() -> future.cancel(true));
+        deferred.onError(error -> future.cancel(true));
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                deferred.setErrorResult(error);
+            } else {
+                deferred.setResult(ResponseEntity.status(result.statusCode()).body(result));
+            }
+        });
+        return deferred;
+    }
 }
@@ -6,6 +6,7 @@ import com.daou.dop.gapps.core.dto.PluginConfigInfo;
 import com.daou.dop.gapps.core.oauth.OAuthException;
 import com.daou.dop.gapps.core.oauth.PkceService;
 import com.daou.dop.gapps.core.oauth.PluginOAuthService;
+import com.daou.dop.gapps.core.oauth.SignedStateService;
 import com.daou.dop.gapps.core.oauth.StateStorage;
 import com.daou.dop.gapps.core.plugin.PluginService;
 import org.slf4j.Logger;
@@ -14,11 +15,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * OAuth 설치 Facade 구현
+ *
+ * <p>state 처리 방식 (oauth.state.mode)
+ * <ul>
+ *   <li>storage (기본): state와 PKCE code_verifier를 {@link StateStorage}/{@link PkceService} 저장소에 보관</li>
+ *   <li>signed: {@link SignedStateService}가 발급한 자체 검증 토큰을 state로 사용 (저장소 미사용)</li>
+ * </ul>
  */
 @Service
 public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
@@ -31,18 +37,21 @@ public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
     private final ConnectionService connectionService;
     private final StateStorage stateStorage;
     private final PkceService pkceService;
+    private final SignedStateService signedStateService;
 
     public OAuthInstallFacadeImpl(
             PluginOAuthService pluginOAuthService,
             PluginService pluginService,
             ConnectionService connectionService,
             StateStorage stateStorage,
-            PkceService pkceService) {
+            PkceService pkceService,
+            SignedStateService signedStateService) {
         this.pluginOAuthService = pluginOAuthService;
         this.pluginService = pluginService;
         this.connectionService = connectionService;
         this.stateStorage = stateStorage;
         this.pkceService = pkceService;
+        this.signedStateService = signedStateService;
     }
 
     @Override
@@ -50,8 +59,18 @@ public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
         validatePluginSupport(pluginId);
         PluginConfigInfo config = getPluginConfig(pluginId);
 
-        String state = stateStorage.generateAndStore(pluginId, STATE_TTL);
-        PluginConfigInfo configWithPkce = preparePkceConfig(pluginId, config, state);
+        String state;
+        PluginConfigInfo configWithPkce;
+        if (signedStateService.isEnabled()) {
+            String codeVerifier = pluginOAuthService.requiresPkce(pluginId) ? pkceService.generateCodeVerifier() : null;
+            state = signedStateService.issue(pluginId, codeVerifier, STATE_TTL);
+            configWithPkce = codeVerifier != null
+                    ? withCodeChallenge(pluginId, config, pkceService.generateCodeChallenge(codeVerifier))
+                    : config;
+        } else {
+            state = stateStorage.generateAndStore(pluginId, STATE_TTL);
+            configWithPkce = preparePkceConfig(pluginId, config, state);
+        }
 
         String authorizationUrl = pluginOAuthService.buildAuthorizationUrl(
                 pluginId, configWithPkce, state, redirectUri);
@@ -65,8 +84,13 @@ public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
         validatePluginSupport(pluginId);
         PluginConfigInfo config = getPluginConfig(pluginId);
 
-        String codeVerifier = consumePkceVerifier(pluginId, state);
-        validateState(pluginId, state);
+        String codeVerifier;
+        if (signedStateService.isEnabled()) {
+            codeVerifier = validateSignedState(pluginId, state);
+        } else {
+            codeVerifier = consumePkceVerifier(pluginId, state);
+            validateState(pluginId, state);
+        }
 
         PluginConfigInfo configWithPkce = addCodeVerifierToConfig(config, codeVerifier);
 
@@ -109,21 +133,15 @@ public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
         }
 
         String codeChallenge = pkceService.generateAndStoreCodeChallenge(state, STATE_TTL);
+        return withCodeChallenge(pluginId, config, codeChallenge);
+    }
 
-        Map<String, Object> metadata = new HashMap<>(config.metadata() != null ? config.metadata() : Map.of());
-        metadata.put("code_challenge", codeChallenge);
-        metadata.put("code_challenge_method", "S256");
-
+    private PluginConfigInfo withCodeChallenge(String pluginId, PluginConfigInfo config, String codeChallenge) {
         log.debug("PKCE enabled for plugin: {}", pluginId);
 
-        return PluginConfigInfo.builder()
-                .pluginId(config.pluginId())
-                .displayName(config.displayName())
-                .clientId(config.clientId())
-                .clientSecret(config.clientSecret())
-                .secrets(config.secrets())
-                .metadata(metadata)
-                .build();
+        return config.withMetadata(Map.of(
+                "code_challenge", codeChallenge,
+                "code_challenge_method", "S256"));
     }
 
     private String consumePkceVerifier(String pluginId, String state) {
@@ -148,23 +166,34 @@ public class OAuthInstallFacadeImpl implements OAuthInstallFacade {
         }
     }
 
+    /**
+     * 서명된 state 검증 및 소비
+     *
+     * @return state에 담긴 PKCE code_verifier (PKCE 미사용 시 null)
+     */
+    private String validateSignedState(String pluginId, String state) {
+        SignedStateService.VerifiedState verified = signedStateService.verifyAndConsume(pluginId, state)
+                .orElseThrow(() -> {
+                    log.warn("Invalid signed state for plugin {}", pluginId);
+                    return new OAuthInstallException(HttpStatus.BAD_REQUEST,
+                            "Invalid state. Please try again.");
+                });
+
+        if (pluginOAuthService.requiresPkce(pluginId) && verified.codeVerifier() == null) {
+            log.warn("PKCE code_verifier missing in signed state for plugin {}", pluginId);
+            throw new OAuthInstallException(HttpStatus.BAD_REQUEST,
+                    "Invalid PKCE state. Please try again.");
+        }
+        return verified.codeVerifier();
+    }
+
     private PluginConfigInfo addCodeVerifierToConfig(PluginConfigInfo config, String codeVerifier) {
         if (codeVerifier == null) {
             return config;
         }
 
-        Map<String, Object> metadata = new HashMap<>(config.metadata() != null ? config.metadata() : Map.of());
-        metadata.put("code_verifier", codeVerifier);
-
         log.debug("PKCE code_verifier added for token exchange");
 
-        return PluginConfigInfo.builder()
-                .pluginId(config.pluginId())
-                .displayName(config.displayName())
-                .clientId(config.clientId())
-                .clientSecret(config.clientSecret())
-                .secrets(config.secrets())
-                .metadata(metadata)
-                .build();
+        return config.withMetadata(Map.of("code_verifier", codeVerifier));
     }
 }
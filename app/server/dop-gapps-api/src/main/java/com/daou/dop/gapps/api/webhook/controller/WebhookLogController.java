@@ -1,11 +1,20 @@
 package com.daou.dop.gapps.api.webhook.controller;
 
+import com.daou.dop.gapps.core.dto.WebhookEventLogFilter;
+import com.daou.dop.gapps.core.dto.WebhookEventLogPage;
 import com.daou.dop.gapps.core.repository.WebhookEventLogRepository;
+import com.daou.dop.gapps.core.webhook.WebhookEventLogQueryService;
+import com.daou.dop.gapps.domain.enums.WebhookEventStatus;
 import com.daou.dop.gapps.domain.webhook.WebhookEventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
 
 /**
  * 웹훅 로그 조회 Controller
@@ -14,36 +23,77 @@ import java.util.List;
 @RequestMapping("/api/webhook/logs")
 public class WebhookLogController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final WebhookEventLogRepository eventLogRepository;
+    private final WebhookEventLogQueryService queryService;
+    private final Duration recentWindow;
 
-    public WebhookLogController(WebhookEventLogRepository eventLogRepository) {
+    public WebhookLogController(
+            WebhookEventLogRepository eventLogRepository,
+            WebhookEventLogQueryService queryService,
+            @Value("${webhook.event-log.recent-window:7d}") Duration recentWindow) {
         this.eventLogRepository = eventLogRepository;
+        this.queryService = queryService;
+        this.recentWindow = recentWindow;
     }
 
     /**
-     * 플러그인별 최근 로그 조회
+     * 플러그인별 로그 목록 조회 (요약, 페이로드 제외, 최신순)
      *
-     * GET /api/webhook/logs?pluginId=jira&limit=20
+     * GET /api/webhook/logs?pluginId=jira&status=FAILED&limit=50
+     * 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     * from 미지정 시 최근 recent-window(기본 7일) 파티션만 조회
      */
     @GetMapping
-    public ResponseEntity<List<WebhookEventLog>> getLogs(
+    public ResponseEntity<WebhookEventLogPage> getLogs(
             @RequestParam String pluginId,
             @RequestParam(required = false) Long connectionId,
+            @RequestParam(required = false) WebhookEventStatus status,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int limit) {
 
-        List<WebhookEventLog> logs;
+        try {
+            WebhookEventLogFilter filter = toFilter(pluginId, connectionId, status, eventType, from, to);
+            return ResponseEntity.ok(queryService.findPage(filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-        if (connectionId != null) {
-            logs = eventLogRepository.findRecentByPluginIdAndConnectionId(pluginId, connectionId, limit);
-        } else {
-            logs = eventLogRepository.findRecentByPluginId(pluginId, limit);
+    /**
+     * 로그 내보내기 (NDJSON 스트리밍, 오래된 순)
+     *
+     * GET /api/webhook/logs/export?pluginId=jira&from=2025-01-01T00:00:00Z&to=2025-01-02T00:00:00Z
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @RequestParam String pluginId,
+            @RequestParam(required = false) Long connectionId,
+            @RequestParam(required = false) WebhookEventStatus status,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "true") boolean includePayload) {
+
+        WebhookEventLogFilter filter;
+        try {
+            filter = toFilter(pluginId, connectionId, status, eventType, from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
 
-        return ResponseEntity.ok(logs);
+        StreamingResponseBody body = out -> queryService.export(filter, includePayload, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
     }
 
     /**
-     * 로그 상세 조회
+     * 로그 상세 조회 (페이로드 압축 해제 포함)
      *
      * GET /api/webhook/logs/{id}
      */
@@ -53,4 +103,15 @@ public class WebhookLogController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    private WebhookEventLogFilter toFilter(
+            String pluginId,
+            Long connectionId,
+            WebhookEventStatus status,
+            String eventType,
+            Instant from,
+            Instant to) {
+        Instant start = from != null ? from : Instant.now().minus(recentWindow);
+        return new WebhookEventLogFilter(pluginId, connectionId, status, eventType, start, to);
+    }
 }
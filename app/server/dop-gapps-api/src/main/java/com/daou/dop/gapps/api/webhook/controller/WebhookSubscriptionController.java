@@ -0,0 +1,118 @@
+package com.daou.dop.gapps.api.webhook.controller;
+
+import com.daou.dop.gapps.api.webhook.dto.CreateWebhookSubscriptionRequest;
+import com.daou.dop.gapps.api.webhook.dto.UpdateWebhookSubscriptionRequest;
+import com.daou.dop.gapps.core.webhook.WebhookSubscriptionService;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 웹훅 구독 관리 Controller
+ *
+ * <p>모든 변경은 {@link WebhookSubscriptionService}를 거쳐 라우팅 테이블에 반영된다.
+ */
+@RestController
+@RequestMapping("/api/webhook/subscriptions")
+public class WebhookSubscriptionController {
+
+    private final WebhookSubscriptionService subscriptionService;
+
+    public WebhookSubscriptionController(WebhookSubscriptionService subscriptionService) {
+        this.subscriptionService = subscriptionService;
+    }
+
+    /**
+     * 플러그인별 구독 목록 조회
+     *
+     * GET /api/webhook/subscriptions?pluginId=jira
+     */
+    @GetMapping
+    public ResponseEntity<List<WebhookSubscription>> getSubscriptions(@RequestParam String pluginId) {
+        return ResponseEntity.ok(subscriptionService.findByPluginId(pluginId));
+    }
+
+    /**
+     * 구독 상세 조회
+     *
+     * GET /api/webhook/subscriptions/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<WebhookSubscription> getSubscription(@PathVariable Long id) {
+        return toResponse(subscriptionService.findById(id));
+    }
+
+    /**
+     * 구독 생성
+     *
+     * POST /api/webhook/subscriptions
+     */
+    @PostMapping
+    public ResponseEntity<WebhookSubscription> createSubscription(@RequestBody CreateWebhookSubscriptionRequest request) {
+        if (request.pluginId() == null || request.pluginId().isBlank() || request.targetType() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(subscriptionService.create(request.toSubscription()));
+    }
+
+    /**
+     * 필터/재시도 정책 변경
+     *
+     * PATCH /api/webhook/subscriptions/{id}
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<WebhookSubscription> updateSubscription(
+            @PathVariable Long id,
+            @RequestBody UpdateWebhookSubscriptionRequest request) {
+
+        Optional<WebhookSubscription> updated = subscriptionService.findById(id);
+        if (request.filterExpr() != null) {
+            updated = subscriptionService.updateFilter(id, request.filterExpr());
+        }
+        if (request.retryPolicy() != null) {
+            updated = subscriptionService.updateRetryPolicy(id, request.retryPolicy());
+        }
+        return toResponse(updated);
+    }
+
+    /**
+     * 구독 활성화
+     *
+     * POST /api/webhook/subscriptions/{id}/enable
+     */
+    @PostMapping("/{id}/enable")
+    public ResponseEntity<WebhookSubscription> enableSubscription(@PathVariable Long id) {
+        return toResponse(subscriptionService.enable(id));
+    }
+
+    /**
+     * 구독 비활성화
+     *
+     * POST /api/webhook/subscriptions/{id}/disable
+     */
+    @PostMapping("/{id}/disable")
+    public ResponseEntity<WebhookSubscription> disableSubscription(@PathVariable Long id) {
+        return toResponse(subscriptionService.disable(id));
+    }
+
+    /**
+     * 구독 삭제
+     *
+     * DELETE /api/webhook/subscriptions/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSubscription(@PathVariable Long id) {
+        return subscriptionService.delete(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private ResponseEntity<WebhookSubscription> toResponse(Optional<WebhookSubscription> subscription) {
+        return subscription
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
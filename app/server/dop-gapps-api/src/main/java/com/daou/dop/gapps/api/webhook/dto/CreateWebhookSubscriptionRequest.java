@@ -0,0 +1,32 @@
+package com.daou.dop.gapps.api.webhook.dto;
+
+import com.daou.dop.gapps.domain.enums.WebhookTargetType;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+
+/**
+ * 웹훅 구독 생성 요청
+ */
+public record CreateWebhookSubscriptionRequest(
+        String pluginId,
+        String eventType,
+        Long connectionId,
+        WebhookTargetType targetType,
+        String targetUrl,
+        String targetMethod,
+        String filterExpr,
+        String retryPolicy
+) {
+
+    public WebhookSubscription toSubscription() {
+        return WebhookSubscription.builder()
+                .pluginId(pluginId)
+                .eventType(eventType)
+                .connectionId(connectionId)
+                .targetType(targetType)
+                .targetUrl(targetUrl)
+                .targetMethod(targetMethod)
+                .filterExpr(filterExpr)
+                .retryPolicy(retryPolicy)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.daou.dop.gapps.api.webhook.dto;
+
+/**
+ * 웹훅 구독 필터/재시도 정책 변경 요청 (null 필드는 변경하지 않음)
+ */
+public record UpdateWebhookSubscriptionRequest(
+        String filterExpr,
+        String retryPolicy
+) {
+}
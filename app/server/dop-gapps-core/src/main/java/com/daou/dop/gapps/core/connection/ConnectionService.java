@@ -1,7 +1,9 @@
 package com.daou.dop.gapps.core.connection;
 
 import com.daou.dop.gapps.core.credential.CredentialProvider;
+import com.daou.dop.gapps.core.dto.ConnectionCredentialStatus;
 import com.daou.dop.gapps.core.dto.ConnectionInfo;
+import com.daou.dop.gapps.core.dto.ConnectionWithCredential;
 import com.daou.dop.gapps.core.dto.CredentialInfo;
 import com.daou.dop.gapps.core.dto.OAuthTokenInfo;
 import com.daou.dop.gapps.core.dto.PluginConfigInfo;
@@ -9,6 +11,7 @@ import com.daou.dop.gapps.core.enums.ScopeType;
 import com.daou.dop.gapps.core.oauth.OAuthException;
 import com.daou.dop.gapps.core.oauth.PluginOAuthService;
 import com.daou.dop.gapps.core.plugin.PluginService;
+import com.daou.dop.gapps.core.repository.AdvisoryLockRepository;
 import com.daou.dop.gapps.core.repository.OAuthCredentialRepository;
 import com.daou.dop.gapps.core.repository.PluginConnectionRepository;
 import com.daou.dop.gapps.domain.connection.PluginConnection;
@@ -18,14 +21,22 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 플러그인 연동 관리 서비스
@@ -41,27 +52,72 @@ public class ConnectionService implements CredentialProvider {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final PluginOAuthService pluginOAuthService;
+    private final CredentialCache credentialCache;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final int bulkChunkSize;
 
     public ConnectionService(
             PluginConnectionRepository connectionRepository,
             OAuthCredentialRepository credentialRepository,
             ObjectMapper objectMapper,
             PluginService pluginService,
-            @Lazy PluginOAuthService pluginOAuthService) {
+            @Lazy PluginOAuthService pluginOAuthService,
+            CredentialCache credentialCache,
+            AdvisoryLockRepository advisoryLockRepository,
+            @Value("${connection.bulk.chunk-size:1000}") int bulkChunkSize) {
         this.connectionRepository = connectionRepository;
         this.credentialRepository = credentialRepository;
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.pluginOAuthService = pluginOAuthService;
+        this.credentialCache = credentialCache;
+        this.advisoryLockRepository = advisoryLockRepository;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     // ========== CredentialProvider 구현 ==========
 
+    /**
+     * 인증 정보 조회 ({@link CredentialCache} 경유)
+     * 캐시 적중 시 커넥션을 점유하지 않도록 트랜잭션을 새로 시작하지 않는다.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<CredentialInfo> getCredentialInfo(String pluginId, String externalId) {
-        return connectionRepository.findByPluginIdAndExternalId(pluginId, externalId)
-                .flatMap(connection -> credentialRepository.findByConnectionId(connection.getId())
-                        .map(credential -> toCredentialInfo(connection, credential)));
+        return credentialCache.get(pluginId, externalId, () -> loadCredentialInfo(pluginId, externalId));
+    }
+
+    private Optional<CredentialInfo> loadCredentialInfo(String pluginId, String externalId) {
+        return connectionRepository.findWithCredentialByPluginIdAndExternalId(pluginId, externalId)
+                .map(found -> toCredentialInfo(found.connection(), found.credential()));
+    }
+
+    /**
+     * 인증 정보 일괄 조회 (배치 실행용)
+     * 캐시에 없는 항목만 chunk-size 단위 IN 조회로 가져오므로 N건을 N/chunk-size번의 왕복으로 처리한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, CredentialInfo> getCredentialInfos(String pluginId, Collection<String> externalIds) {
+        if (externalIds.isEmpty()) {
+            return Map.of();
+        }
+        return credentialCache.getAll(pluginId, externalIds, missing -> loadCredentialInfos(pluginId, missing));
+    }
+
+    private Map<String, CredentialInfo> loadCredentialInfos(String pluginId, Set<String> externalIds) {
+        List<String> ids = List.copyOf(externalIds);
+        List<ConnectionWithCredential> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+            rows.addAll(connectionRepository.findWithCredentialByPluginIdAndExternalIdIn(pluginId, chunk));
+        }
+        log.debug("Bulk credential load: plugin={}, requested={}, found={}", pluginId, ids.size(), rows.size());
+
+        return rows.stream().collect(Collectors.toMap(
+                row -> row.connection().getExternalId(),
+                row -> toCredentialInfo(row.connection(), row.credential()),
+                (first, second) -> first));
     }
 
     // ========== 연동 조회 ==========
@@ -106,6 +162,13 @@ public class ConnectionService implements CredentialProvider {
                 .toList();
     }
 
+    /**
+     * 플러그인별 활성 연동의 인증 상태 목록 (토큰 복호화 없이 한 번의 조회)
+     */
+    public List<ConnectionCredentialStatus> findActiveCredentialStatuses(String pluginId) {
+        return connectionRepository.findCredentialStatusesByPluginIdAndStatus(pluginId, ConnectionStatus.ACTIVE);
+    }
+
     /**
      * 모든 활성 연동 목록 조회
      */
@@ -126,6 +189,7 @@ public class ConnectionService implements CredentialProvider {
     public Long saveOAuthToken(OAuthTokenInfo tokenInfo, Long companyId, Long userId, ScopeType scopeType) {
         String pluginId = tokenInfo.pluginId();
         String externalId = tokenInfo.externalId();
+        credentialCache.invalidate(pluginId, externalId);
 
         Optional<PluginConnection> existing = connectionRepository
                 .findByPluginIdAndExternalId(pluginId, externalId);
@@ -221,6 +285,9 @@ public class ConnectionService implements CredentialProvider {
 
     /**
      * 만료된 토큰 갱신 및 저장
+     * 노드 간 동시 갱신을 막기 위해 (pluginId, externalId) 단위 advisory lock을 잡고,
+     * 잠금을 기다리는 동안 다른 노드가 이미 갱신했다면 Provider 호출 없이 그 토큰을 반환한다.
+     * 노드 내 동시 요청은 {@link TokenRefreshCoordinator}를 통해 호출할 것.
      *
      * @param pluginId   플러그인 ID
      * @param externalId 외부 시스템 ID
@@ -228,23 +295,36 @@ public class ConnectionService implements CredentialProvider {
      */
     @Transactional
     public Optional<CredentialInfo> refreshAndSaveToken(String pluginId, String externalId) {
+        return refreshAndSaveToken(pluginId, externalId, Instant.now());
+    }
+
+    /**
+     * 토큰 갱신 및 저장 (선제 갱신)
+     *
+     * @param refreshBefore 만료 시간이 이 시각 이후인 토큰은 이미 갱신된 것으로 보고 그대로 반환
+     */
+    @Transactional
+    public Optional<CredentialInfo> refreshAndSaveToken(String pluginId, String externalId, Instant refreshBefore) {
         log.info("Refreshing token for plugin={}, externalId={}", pluginId, externalId);
 
-        // 1. Connection 조회
-        Optional<PluginConnection> connectionOpt = connectionRepository.findByPluginIdAndExternalId(pluginId, externalId);
-        if (connectionOpt.isEmpty()) {
-            log.warn("Connection not found: plugin={}, externalId={}", pluginId, externalId);
+        // 0. 노드 간 갱신 직렬화 (커밋/롤백 시 해제) - 조회보다 먼저 잡아야 최신 행을 읽는다
+        advisoryLockRepository.lockForTransaction("token-refresh:" + pluginId + ":" + externalId);
+
+        // 1. Connection + Credential 조회 (한 번의 조인)
+        Optional<ConnectionWithCredential> found =
+                connectionRepository.findWithCredentialByPluginIdAndExternalId(pluginId, externalId);
+        if (found.isEmpty()) {
+            log.warn("Connection or credential not found: plugin={}, externalId={}", pluginId, externalId);
             return Optional.empty();
         }
-        PluginConnection connection = connectionOpt.get();
+        PluginConnection connection = found.get().connection();
+        OAuthCredential credential = found.get().credential();
 
-        // 2. Credential 조회
-        Optional<OAuthCredential> credentialOpt = credentialRepository.findByConnectionId(connection.getId());
-        if (credentialOpt.isEmpty()) {
-            log.warn("Credential not found for connectionId={}", connection.getId());
-            return Optional.empty();
+        CredentialInfo current = toCredentialInfo(connection, credential);
+        if (isFresh(current, refreshBefore)) {
+            log.info("Token already refreshed by another request: plugin={}, externalId={}", pluginId, externalId);
+            return Optional.of(current);
         }
-        OAuthCredential credential = credentialOpt.get();
 
         String refreshToken = credential.getRefreshToken();
         if (refreshToken == null || refreshToken.isBlank()) {
@@ -252,7 +332,7 @@ public class ConnectionService implements CredentialProvider {
             return Optional.empty();
         }
 
-        // 3. Plugin Config 조회
+        // 2. Plugin Config 조회
         Optional<PluginConfigInfo> configOpt = pluginService.getPluginConfig(pluginId);
         if (configOpt.isEmpty()) {
             log.warn("Plugin config not found: {}", pluginId);
@@ -260,11 +340,11 @@ public class ConnectionService implements CredentialProvider {
         }
         PluginConfigInfo config = configOpt.get();
 
-        // 4. 토큰 갱신
+        // 3. 토큰 갱신
         try {
             OAuthTokenInfo newTokenInfo = pluginOAuthService.refreshToken(pluginId, config, refreshToken);
 
-            // 5. DB 업데이트
+            // 4. DB 업데이트
             credential.updateToken(
                     newTokenInfo.accessToken(),
                     newTokenInfo.refreshToken() != null ? newTokenInfo.refreshToken() : refreshToken,
@@ -272,10 +352,11 @@ public class ConnectionService implements CredentialProvider {
                     newTokenInfo.expiresAt()
             );
             credentialRepository.save(credential);
+            credentialCache.invalidate(pluginId, externalId);
 
             log.info("Successfully refreshed token for plugin={}, externalId={}", pluginId, externalId);
 
-            // 6. 갱신된 CredentialInfo 반환
+            // 5. 갱신된 CredentialInfo 반환
             return Optional.of(toCredentialInfo(connection, credential));
 
         } catch (OAuthException e) {
@@ -284,6 +365,13 @@ public class ConnectionService implements CredentialProvider {
         }
     }
 
+    private boolean isFresh(CredentialInfo credential, Instant refreshBefore) {
+        if (credential.expiresAt() == null) {
+            return !credential.isExpired();
+        }
+        return credential.expiresAt().isAfter(refreshBefore);
+    }
+
     // ========== 인증 정보 관리 ==========
 
     private void createCredential(Long connectionId, OAuthTokenInfo tokenInfo) {
@@ -324,12 +412,16 @@ public class ConnectionService implements CredentialProvider {
                 .ifPresent(connection -> {
                     connection.revoke();
                     connectionRepository.save(connection);
+                    credentialCache.invalidate(connection.getPluginId(), connection.getExternalId());
                     log.info("Revoked connection: {}", connectionId);
                 });
     }
 
     @Transactional
     public void deleteConnection(Long connectionId) {
+        connectionRepository.findById(connectionId)
+                .ifPresent(connection ->
+                        credentialCache.invalidate(connection.getPluginId(), connection.getExternalId()));
         credentialRepository.deleteByConnectionId(connectionId);
         connectionRepository.deleteById(connectionId);
         log.info("Deleted connection: {}", connectionId);
@@ -351,7 +443,8 @@ public class ConnectionService implements CredentialProvider {
     }
 
     private CredentialInfo toCredentialInfo(PluginConnection connection, OAuthCredential credential) {
-        Map<String, String> metadata = parseMetadata(connection.getMetadata());
+        // 캐시에서 여러 요청이 공유하므로 읽기 전용으로 노출
+        Map<String, String> metadata = Collections.unmodifiableMap(parseMetadata(connection.getMetadata()));
 
         return CredentialInfo.builder()
                 .accessToken(credential.getAccessToken())
@@ -0,0 +1,194 @@
+package com.daou.dop.gapps.core.connection;
+
+import com.daou.dop.gapps.core.dto.CredentialInfo;
+import com.daou.dop.gapps.core.repository.ChangeVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 복호화된 인증 정보 캐시 ((pluginId, externalId) → {@link CredentialInfo})
+ *
+ * <p>연동/인증 정보 조회 2회와 토큰 복호화를 API 호출마다 반복하지 않도록 로컬에 보관한다.
+ * <ul>
+ *   <li>TTL: {@code connection.credential-cache.ttl}, 단 토큰 만료 시각(- expiry-skew)을 넘지 않음</li>
+ *   <li>크기: {@code connection.credential-cache.max-size} 초과 시 오래 쓰지 않은 항목부터 제거</li>
+ *   <li>무효화: 토큰 저장/갱신, 연동 해제/삭제 시 즉시 + 커밋 후 한 번 더 제거
+ *       (커밋 전 다른 요청이 이전 값을 다시 적재하는 경우 방지)</li>
+ *   <li>다른 노드의 변경: change_version('credential')을 {@code refresh-interval}마다 비교하여
+ *       바뀌었으면 전체 무효화. 연동 해제/삭제, API Key 교체/삭제, OAuth 인증 정보 삭제가
+ *       모든 노드에 반영되는 시간은 refresh-interval 이내다</li>
+ * </ul>
+ * 토큰 갱신은 버전을 올리지 않는다. 다른 노드는 이전 access token을 계속 쓰지만,
+ * 해당 토큰은 만료 전까지 유효하고 TTL이 토큰 만료 시각(- expiry-skew)을 넘지 않는다.
+ * 조회 실패(연동/인증 정보 없음)는 캐시하지 않는다.
+ *
+ * <p>메트릭: cache.gets{cache=credential, result=hit|miss}, cache.size, cache.evictions
+ */
+@Component
+public class CredentialCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CredentialCache.class);
+
+    static final String CHANGE_VERSION_NAME = "credential";
+
+    private final ChangeVersionRepository changeVersionRepository;
+    private final boolean enabled;
+    private final Cache<Key, CredentialInfo> cache;
+
+    private volatile long seenVersion = -1;
+
+    public CredentialCache(
+            ChangeVersionRepository changeVersionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${connection.credential-cache.enabled:true}") boolean enabled,
+            @Value("${connection.credential-cache.max-size:10000}") long maxSize,
+            @Value("${connection.credential-cache.ttl:10m}") Duration ttl,
+            @Value("${connection.credential-cache.expiry-skew:60s}") Duration expirySkew) {
+        this.changeVersionRepository = changeVersionRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenAwareExpiry(ttl, expirySkew))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "credential");
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재
+     * 같은 키의 동시 적재는 한 번만 수행된다.
+     */
+    public Optional<CredentialInfo> get(String pluginId, String externalId, Supplier<Optional<CredentialInfo>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return Optional.ofNullable(cache.get(new Key(pluginId, externalId), key -> loader.get().orElse(null)));
+    }
+
+    /**
+     * 일괄 조회, 캐시에 없는 항목만 모아 loader로 한 번에 적재
+     *
+     * @param loader 없는 externalId 집합 → 조회 결과 (없는 항목은 결과에서 빠지며 캐시하지 않음)
+     * @return externalId → CredentialInfo
+     */
+    public Map<String, CredentialInfo> getAll(
+            String pluginId,
+            Collection<String> externalIds,
+            Function<Set<String>, Map<String, CredentialInfo>> loader) {
+        if (!enabled) {
+            return loader.apply(new HashSet<>(externalIds));
+        }
+
+        List<Key> keys = externalIds.stream()
+                .map(externalId -> new Key(pluginId, externalId))
+                .toList();
+        Map<Key, CredentialInfo> found = cache.getAll(keys, missing -> {
+            Set<String> missingIds = new HashSet<>(missing.size());
+            missing.forEach(key -> missingIds.add(key.externalId()));
+
+            Map<Key, CredentialInfo> loaded = new HashMap<>();
+            loader.apply(missingIds).forEach((externalId, info) -> loaded.put(new Key(pluginId, externalId), info));
+            return loaded;
+        });
+
+        Map<String, CredentialInfo> result = new HashMap<>(found.size());
+        found.forEach((key, info) -> result.put(key.externalId(), info));
+        return result;
+    }
+
+    /**
+     * 항목 무효화
+     * 트랜잭션 안이면 커밋 이후에도 한 번 더 제거한다.
+     */
+    public void invalidate(String pluginId, String externalId) {
+        Key key = new Key(pluginId, externalId);
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+        log.debug("Credential cache invalidated: plugin={}, externalId={}", pluginId, externalId);
+    }
+
+    /**
+     * 다른 노드의 변경 감지 시 전체 무효화
+     */
+    @Scheduled(fixedDelayString = "${connection.credential-cache.refresh-interval:5s}")
+    public void invalidateIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long version = changeVersionRepository.findVersionByName(CHANGE_VERSION_NAME).orElse(0L);
+            if (version != seenVersion) {
+                cache.invalidateAll();
+                log.debug("Credential version changed: {} -> {}, cache cleared", seenVersion, version);
+                seenVersion = version;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check credential version: {}", e.getMessage());
+        }
+    }
+
+    private record Key(String pluginId, String externalId) {
+    }
+
+    /**
+     * 토큰 만료 시각을 넘지 않는 TTL
+     * 만료가 임박했거나 이미 만료된 토큰은 사실상 캐시하지 않아 갱신 경로가 바로 동작한다.
+     */
+    private record TokenAwareExpiry(Duration ttl, Duration expirySkew) implements Expiry<Key, CredentialInfo> {
+
+        @Override
+        public long expireAfterCreate(Key key, CredentialInfo value, long currentTime) {
+            if (value.isExpired()) {
+                return 0;
+            }
+            if (value.expiresAt() == null) {
+                return ttl.toNanos();
+            }
+            Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt().minus(expirySkew));
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return Math.min(ttl.toNanos(), untilExpiry.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, CredentialInfo value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, CredentialInfo value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
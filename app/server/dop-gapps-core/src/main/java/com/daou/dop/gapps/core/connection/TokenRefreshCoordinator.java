@@ -0,0 +1,102 @@
+package com.daou.dop.gapps.core.connection;
+
+import com.daou.dop.gapps.core.dto.CredentialInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 토큰 갱신 단일화 (single-flight)
+ *
+ * <p>같은 (pluginId, externalId)에 대한 동시 갱신 요청은 노드 안에서 하나로 합쳐진다.
+ * 먼저 도착한 요청이 {@link ConnectionService#refreshAndSaveToken}을 수행하고,
+ * 나머지는 그 결과를 기다렸다가 공유하므로 Provider를 다시 호출하지 않는다.
+ * 노드 간에는 refreshAndSaveToken 내부의 advisory lock으로 직렬화되며,
+ * 잠금을 기다린 노드는 이미 갱신된 토큰을 읽어 그대로 반환한다.
+ */
+@Component
+public class TokenRefreshCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRefreshCoordinator.class);
+
+    private final ConnectionService connectionService;
+    private final Duration waitTimeout;
+
+    private final ConcurrentMap<Key, CompletableFuture<Optional<CredentialInfo>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public TokenRefreshCoordinator(
+            ConnectionService connectionService,
+            @Value("${connection.token-refresh.wait-timeout:30s}") Duration waitTimeout) {
+        this.connectionService = connectionService;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * 토큰 갱신 (진행 중인 갱신이 있으면 그 결과를 공유)
+     *
+     * @return 갱신된 CredentialInfo (갱신 실패 또는 대기 시간 초과 시 Optional.empty)
+     */
+    public Optional<CredentialInfo> refresh(String pluginId, String externalId) {
+        return refresh(pluginId, externalId, Instant.now());
+    }
+
+    /**
+     * 만료 전 선제 갱신
+     *
+     * @param refreshBefore 만료 시간이 이 시각 이후면 이미 갱신된 것으로 보고 Provider를 호출하지 않음
+     */
+    public Optional<CredentialInfo> refresh(String pluginId, String externalId, Instant refreshBefore) {
+        Key key = new Key(pluginId, externalId);
+        CompletableFuture<Optional<CredentialInfo>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<CredentialInfo>> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            log.debug("Joining in-flight token refresh: plugin={}, externalId={}", pluginId, externalId);
+            return await(existing, key);
+        }
+
+        try {
+            // 트랜잭션 커밋 후 반환되므로 대기자에게 전달되는 시점엔 DB에도 반영되어 있다
+            Optional<CredentialInfo> result = connectionService.refreshAndSaveToken(pluginId, externalId, refreshBefore);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Optional<CredentialInfo> await(CompletableFuture<Optional<CredentialInfo>> future, Key key) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for token refresh: plugin={}, externalId={}",
+                    key.pluginId(), key.externalId());
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.warn("In-flight token refresh failed: plugin={}, externalId={}, error={}",
+                    key.pluginId(), key.externalId(), e.getCause().getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private record Key(String pluginId, String externalId) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.daou.dop.gapps.core.connection;
+
+import com.daou.dop.gapps.core.dto.CredentialInfo;
+import com.daou.dop.gapps.core.dto.ExpiringCredential;
+import com.daou.dop.gapps.core.repository.OAuthCredentialRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 선제 갱신 스케줄러
+ *
+ * <p>주기적으로 {@code ahead-window} 안에 만료되는 토큰을 조회해 요청 경로에서 만료를 만나기 전에 갱신한다.
+ * <ul>
+ *   <li>갱신은 Virtual Thread에서 수행하며 동시 실행 수는 {@code concurrency}로 제한</li>
+ *   <li>플러그인별로 초당 {@code per-plugin-rate}건을 넘지 않도록 간격을 둔다</li>
+ *   <li>실패한 연동은 {@code failure-backoff}부터 두 배씩 늘려 최대 {@code max-backoff}까지 재시도를 미룬다</li>
+ * </ul>
+ * 갱신은 {@link TokenRefreshCoordinator}를 거치므로 요청 경로의 갱신과 합쳐지고,
+ * 여러 노드가 같은 토큰을 스캔해도 advisory lock 이후 한 노드만 Provider를 호출한다.
+ */
+@Component
+public class TokenRefreshScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRefreshScheduler.class);
+
+    private final OAuthCredentialRepository credentialRepository;
+    private final TokenRefreshCoordinator refreshCoordinator;
+    private final boolean enabled;
+    private final Duration aheadWindow;
+    private final int batchSize;
+    private final int concurrency;
+    private final long pluginIntervalNanos;
+    private final Duration failureBackoff;
+    private final Duration maxBackoff;
+
+    private final Map<String, AtomicLong> nextPluginSlot = new ConcurrentHashMap<>();
+    private final Map<Long, Backoff> backoffs = new ConcurrentHashMap<>();
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+
+    public TokenRefreshScheduler(
+            OAuthCredentialRepository credentialRepository,
+            TokenRefreshCoordinator refreshCoordinator,
+            MeterRegistry meterRegistry,
+            @Value("${connection.token-refresh.enabled:true}") boolean enabled,
+            @Value("${connection.token-refresh.ahead-window:10m}") Duration aheadWindow,
+            @Value("${connection.token-refresh.batch-size:200}") int batchSize,
+            @Value("${connection.token-refresh.concurrency:8}") int concurrency,
+            @Value("${connection.token-refresh.per-plugin-rate:5}") double perPluginRate,
+            @Value("${connection.token-refresh.failure-backoff:1m}") Duration failureBackoff,
+            @Value("${connection.token-refresh.max-backoff:30m}") Duration maxBackoff) {
+        this.credentialRepository = credentialRepository;
+        this.refreshCoordinator = refreshCoordinator;
+        this.enabled = enabled;
+        this.aheadWindow = aheadWindow;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.pluginIntervalNanos = (long) (1_000_000_000L / perPluginRate);
+        this.failureBackoff = failureBackoff;
+        this.maxBackoff = maxBackoff;
+        this.refreshedCounter = meterRegistry.counter("oauth.token.refresh.proactive", "result", "success");
+        this.failedCounter = meterRegistry.counter("oauth.token.refresh.proactive", "result", "failure");
+    }
+
+    @Scheduled(initialDelayString = "${connection.token-refresh.initial-delay:30s}",
+            fixedDelayString = "${connection.token-refresh.scan-interval:1m}")
+    public void refreshExpiring() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            Instant threshold = now.plus(aheadWindow);
+            // 백오프 중인 항목이 배치를 채우지 않도록 여유 있게 조회
+            List<ExpiringCredential> candidates = credentialRepository
+                    .findRefreshableExpiringBefore(threshold, batchSize * 2)
+                    .stream()
+                    .filter(candidate -> !isBackingOff(candidate.connectionId(), now))
+                    .limit(batchSize)
+                    .toList();
+
+            if (candidates.isEmpty()) {
+                return;
+            }
+            log.info("Proactive token refresh: {} credentials expiring before {}", candidates.size(), threshold);
+            refreshAll(candidates, threshold);
+        } catch (Exception e) {
+            log.error("Proactive token refresh scan failed", e);
+        }
+    }
+
+    /**
+     * 배치 갱신 (모든 작업이 끝날 때까지 대기 - 다음 스캔과 겹치지 않음)
+     */
+    private void refreshAll(List<ExpiringCredential> candidates, Instant threshold) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ExpiringCredential candidate : candidates) {
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        refreshOne(candidate, threshold);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void refreshOne(ExpiringCredential candidate, Instant threshold) {
+        try {
+            awaitPluginSlot(candidate.pluginId());
+            Optional<CredentialInfo> refreshed = refreshCoordinator.refresh(
+                    candidate.pluginId(), candidate.externalId(), threshold);
+            if (refreshed.isPresent()) {
+                backoffs.remove(candidate.connectionId());
+                refreshedCounter.increment();
+            } else {
+                recordFailure(candidate);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Proactive token refresh error: plugin={}, externalId={}, error={}",
+                    candidate.pluginId(), candidate.externalId(), e.getMessage());
+            recordFailure(candidate);
+        }
+    }
+
+    /**
+     * 플러그인별 호출 간격 유지 (다음 슬롯을 예약하고 그 시각까지 대기)
+     */
+    private void awaitPluginSlot(String pluginId) throws InterruptedException {
+        AtomicLong next = nextPluginSlot.computeIfAbsent(pluginId, k -> new AtomicLong());
+        long now = System.nanoTime();
+        long slot = next.getAndAccumulate(now, (prev, current) -> Math.max(prev, current) + pluginIntervalNanos);
+        long waitNanos = Math.max(slot, now) - now;
+        if (waitNanos > 0) {
+            Thread.sleep(Duration.ofNanos(waitNanos));
+        }
+    }
+
+    private boolean isBackingOff(Long connectionId, Instant now) {
+        Backoff backoff = backoffs.get(connectionId);
+        return backoff != null && now.isBefore(backoff.nextAttemptAt());
+    }
+
+    private void recordFailure(ExpiringCredential candidate) {
+        failedCounter.increment();
+        Backoff backoff = backoffs.compute(candidate.connectionId(), (id, previous) -> {
+            int failures = previous == null ? 1 : previous.failures() + 1;
+            Duration delay = failureBackoff.multipliedBy(1L << Math.min(failures - 1, 20));
+            if (delay.compareTo(maxBackoff) > 0) {
+                delay = maxBackoff;
+            }
+            return new Backoff(failures, Instant.now().plus(delay));
+        });
+        log.warn("Proactive token refresh failed: plugin={}, externalId={}, failures={}, next attempt at {}",
+                candidate.pluginId(), candidate.externalId(), backoff.failures(), backoff.nextAttemptAt());
+    }
+
+    private record Backoff(int failures, Instant nextAttemptAt) {
+    }
+}
@@ -2,6 +2,8 @@ package com.daou.dop.gapps.core.credential;
 
 import com.daou.dop.gapps.core.dto.CredentialInfo;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -10,4 +12,11 @@ import java.util.Optional;
  */
 public interface CredentialProvider {
     Optional<CredentialInfo> getCredentialInfo(String pluginId, String externalId);
+
+    /**
+     * 여러 연동의 인증 정보 일괄 조회
+     *
+     * @return externalId → CredentialInfo (연동/인증 정보가 없는 externalId는 포함되지 않음)
+     */
+    Map<String, CredentialInfo> getCredentialInfos(String pluginId, Collection<String> externalIds);
 }
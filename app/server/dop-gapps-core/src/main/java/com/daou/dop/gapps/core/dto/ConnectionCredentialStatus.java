@@ -0,0 +1,27 @@
+package com.daou.dop.gapps.core.dto;
+
+import com.daou.dop.gapps.domain.enums.ConnectionStatus;
+
+import java.time.Instant;
+
+/**
+ * 연동별 인증 상태 (목록 조회용 프로젝션, 토큰 값은 읽지 않음)
+ *
+ * @param connectionId  연동 ID
+ * @param pluginId      플러그인 ID
+ * @param externalId    외부 시스템 ID
+ * @param externalName  외부 시스템 표시명
+ * @param status        연동 상태
+ * @param hasCredential OAuth 인증 정보 존재 여부
+ * @param expiresAt     토큰 만료 시간 (인증 정보 없으면 null)
+ */
+public record ConnectionCredentialStatus(
+        Long connectionId,
+        String pluginId,
+        String externalId,
+        String externalName,
+        ConnectionStatus status,
+        boolean hasCredential,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.daou.dop.gapps.core.dto;
+
+import com.daou.dop.gapps.domain.connection.PluginConnection;
+import com.daou.dop.gapps.domain.credential.OAuthCredential;
+
+/**
+ * 연동 + OAuth 인증 정보 (한 번의 조인 조회 결과, 둘 다 영속 상태)
+ *
+ * @param connection 연동
+ * @param credential OAuth 인증 정보
+ */
+public record ConnectionWithCredential(
+        PluginConnection connection,
+        OAuthCredential credential
+) {
+}
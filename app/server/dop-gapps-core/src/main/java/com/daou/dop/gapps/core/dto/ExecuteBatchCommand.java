@@ -0,0 +1,21 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플러그인 API 일괄 실행 요청 (api → core)
+ * 같은 액션을 여러 연동에 대해 실행한다. (예: 모든 워크스페이스에 메시지 발송)
+ *
+ * @param pluginId    플러그인 식별자
+ * @param action      실행할 액션
+ * @param params      공통 액션 파라미터 (항목별 externalId가 추가됨)
+ * @param externalIds 대상 연동의 외부 시스템 ID 목록
+ */
+public record ExecuteBatchCommand(
+        String pluginId,
+        String action,
+        Map<String, Object> params,
+        List<String> externalIds
+) {
+}
@@ -0,0 +1,38 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.List;
+
+/**
+ * 플러그인 API 일괄 실행 결과 (core → api)
+ *
+ * @param success    요청 처리 여부 (항목별 성공 여부는 results 참고)
+ * @param statusCode HTTP 상태 코드
+ * @param error      에러 메시지 (요청 자체가 거부된 경우)
+ * @param succeeded  성공 항목 수
+ * @param failed     실패 항목 수
+ * @param results    항목별 실행 결과 (요청 순서 유지)
+ */
+public record ExecuteBatchResult(
+        boolean success,
+        int statusCode,
+        String error,
+        int succeeded,
+        int failed,
+        List<Item> results
+) {
+    public static ExecuteBatchResult of(List<Item> results) {
+        int succeeded = (int) results.stream().filter(item -> item.result().success()).count();
+        return new ExecuteBatchResult(true, 200, null, succeeded, results.size() - succeeded, results);
+    }
+
+    public static ExecuteBatchResult error(int statusCode, String error) {
+        return new ExecuteBatchResult(false, statusCode, error, 0, 0, List.of());
+    }
+
+    /**
+     * @param externalId 외부 시스템 ID
+     * @param result     실행 결과
+     */
+    public record Item(String externalId, ExecuteResult result) {
+    }
+}
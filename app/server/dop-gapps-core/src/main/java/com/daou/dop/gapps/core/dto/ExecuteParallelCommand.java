@@ -0,0 +1,14 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.List;
+
+/**
+ * 플러그인 API 병렬 실행 요청 (api → core)
+ * 서로 다른 플러그인/액션 호출을 동시에 실행한다. (예: 여러 캘린더의 일정 동시 조회)
+ *
+ * @param calls 실행할 호출 목록 (각 호출의 params에 externalId 포함)
+ */
+public record ExecuteParallelCommand(
+        List<ExecuteCommand> calls
+) {
+}
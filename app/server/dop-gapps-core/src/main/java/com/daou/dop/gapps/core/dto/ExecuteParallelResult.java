@@ -0,0 +1,31 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.List;
+
+/**
+ * 플러그인 API 병렬 실행 결과 (core → api)
+ *
+ * @param success    요청 처리 여부 (호출별 성공 여부는 results 참고)
+ * @param statusCode HTTP 상태 코드
+ * @param error      에러 메시지 (요청 자체가 거부된 경우)
+ * @param succeeded  성공 호출 수
+ * @param failed     실패 호출 수 (마감 초과는 504 결과로 포함)
+ * @param results    호출별 실행 결과 (요청 순서 유지)
+ */
+public record ExecuteParallelResult(
+        boolean success,
+        int statusCode,
+        String error,
+        int succeeded,
+        int failed,
+        List<ExecuteResult> results
+) {
+    public static ExecuteParallelResult of(List<ExecuteResult> results) {
+        int succeeded = (int) results.stream().filter(ExecuteResult::success).count();
+        return new ExecuteParallelResult(true, 200, null, succeeded, results.size() - succeeded, results);
+    }
+
+    public static ExecuteParallelResult error(int statusCode, String error) {
+        return new ExecuteParallelResult(false, statusCode, error, 0, 0, List.of());
+    }
+}
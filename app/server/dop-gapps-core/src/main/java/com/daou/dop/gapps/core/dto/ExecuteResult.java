@@ -1,19 +1,27 @@
 package com.daou.dop.gapps.core.dto;
 
+import java.time.Duration;
+
 /**
  * 플러그인 API 실행 결과 (core → api)
  *
- * @param success    성공 여부
- * @param statusCode HTTP 상태 코드
- * @param body       응답 본문
- * @param error      에러 메시지
+ * @param success           성공 여부
+ * @param statusCode        HTTP 상태 코드
+ * @param body              응답 본문
+ * @param error             에러 메시지
+ * @param retryAfterSeconds 호출 한도 초과 시 재시도 가능까지의 시간(초), 그 외 null
  */
 public record ExecuteResult(
         boolean success,
         int statusCode,
         String body,
-        String error
+        String error,
+        Long retryAfterSeconds
 ) {
+    public ExecuteResult(boolean success, int statusCode, String body, String error) {
+        this(success, statusCode, body, error, null);
+    }
+
     public static ExecuteResult success(int statusCode, String body) {
         return new ExecuteResult(true, statusCode, body, null);
     }
@@ -29,4 +37,12 @@ public record ExecuteResult(
     public static ExecuteResult error(String error) {
         return error(500, error);
     }
+
+    /**
+     * 호출 한도 초과 (429)
+     */
+    public static ExecuteResult rateLimited(String error, Duration retryAfter) {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return new ExecuteResult(false, 429, null, error, seconds);
+    }
 }
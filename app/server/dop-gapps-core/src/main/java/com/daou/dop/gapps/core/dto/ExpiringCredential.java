@@ -0,0 +1,19 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.time.Instant;
+
+/**
+ * 만료 임박 토큰 (선제 갱신 대상)
+ *
+ * @param connectionId 연동 ID
+ * @param pluginId     플러그인 ID
+ * @param externalId   외부 시스템 ID
+ * @param expiresAt    토큰 만료 시간
+ */
+public record ExpiringCredential(
+        Long connectionId,
+        String pluginId,
+        String externalId,
+        Instant expiresAt
+) {
+}
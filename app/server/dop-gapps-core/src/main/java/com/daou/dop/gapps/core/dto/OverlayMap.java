@@ -0,0 +1,96 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 기본 Map 위에 몇 개의 값을 덮어쓴 읽기 전용 뷰
+ * 기본 Map을 복사하지 않으므로 설정 스냅샷에 요청별 값(PKCE 등)을 얹을 때 사용한다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class OverlayMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> base;
+    private final Map<K, V> overrides;
+
+    public OverlayMap(Map<K, V> base, Map<K, V> overrides) {
+        this.base = base;
+        this.overrides = overrides;
+    }
+
+    @Override
+    public V get(Object key) {
+        return overrides.containsKey(key) ? overrides.get(key) : base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overrides.containsKey(key) || base.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new OverlayIterator();
+            }
+
+            @Override
+            public int size() {
+                int size = overrides.size();
+                for (K key : base.keySet()) {
+                    if (!overrides.containsKey(key)) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 덮어쓴 값 → 덮어쓰지 않은 기본 값 순으로 순회
+     */
+    private final class OverlayIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<K, V>> overrideIterator = overrides.entrySet().iterator();
+        private final Iterator<Entry<K, V>> baseIterator = base.entrySet().iterator();
+        private Entry<K, V> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (overrideIterator.hasNext()) {
+                next = overrideIterator.next();
+                return true;
+            }
+            while (baseIterator.hasNext()) {
+                Entry<K, V> candidate = baseIterator.next();
+                if (!overrides.containsKey(candidate.getKey())) {
+                    next = candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> result = new SimpleImmutableEntry<>(next);
+            next = null;
+            return result;
+        }
+    }
+}
@@ -50,4 +50,12 @@ public record PluginConfigInfo(
     public String getSecret(String key) {
         return secrets != null ? secrets.get(key) : null;
     }
+
+    /**
+     * metadata 일부를 덮어쓴 설정 (기존 metadata는 복사하지 않고 {@link OverlayMap}으로 감쌈)
+     */
+    public PluginConfigInfo withMetadata(Map<String, Object> overrides) {
+        return new PluginConfigInfo(pluginId, displayName, clientId, clientSecret, secrets,
+                new OverlayMap<>(metadata != null ? metadata : Map.of(), overrides));
+    }
 }
@@ -0,0 +1,45 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 웹훅 이벤트 로그 keyset 커서
+ * 마지막으로 반환한 행의 (createdAt, id)이며, 다음 페이지는 이 값보다 작은 행부터 조회한다.
+ *
+ * @param createdAt 마지막 행의 수신 시간
+ * @param id        마지막 행의 ID
+ */
+public record WebhookEventLogCursor(Instant createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static WebhookEventLogCursor of(WebhookEventLogSummary last) {
+        return new WebhookEventLogCursor(last.createdAt(), last.id());
+    }
+
+    /**
+     * 불투명 문자열로 인코딩 (base64url)
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static WebhookEventLogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new WebhookEventLogCursor(
+                    Instant.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
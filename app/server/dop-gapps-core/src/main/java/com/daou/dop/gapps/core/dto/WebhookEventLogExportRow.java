@@ -0,0 +1,33 @@
+package com.daou.dop.gapps.core.dto;
+
+import com.daou.dop.gapps.domain.enums.WebhookEventStatus;
+
+import java.time.Instant;
+
+/**
+ * 웹훅 이벤트 로그 내보내기 행 (NDJSON 한 줄)
+ *
+ * @param id           로그 ID
+ * @param pluginId     플러그인 ID
+ * @param connectionId 연동 ID
+ * @param eventType    이벤트 타입
+ * @param externalId   외부 시스템 ID
+ * @param status       처리 상태
+ * @param errorMessage 에러 메시지
+ * @param payload      원본 페이로드 (압축 해제, 제외 요청 시 null)
+ * @param processedAt  처리 완료 시간
+ * @param createdAt    수신 시간
+ */
+public record WebhookEventLogExportRow(
+        Long id,
+        String pluginId,
+        Long connectionId,
+        String eventType,
+        String externalId,
+        WebhookEventStatus status,
+        String errorMessage,
+        String payload,
+        Instant processedAt,
+        Instant createdAt
+) {
+}
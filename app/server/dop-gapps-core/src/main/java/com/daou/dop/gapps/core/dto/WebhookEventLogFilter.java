@@ -0,0 +1,36 @@
+package com.daou.dop.gapps.core.dto;
+
+import com.daou.dop.gapps.domain.enums.WebhookEventStatus;
+
+import java.time.Instant;
+
+/**
+ * 웹훅 이벤트 로그 조회 조건
+ *
+ * @param pluginId     플러그인 ID (필수)
+ * @param connectionId 연동 ID (선택)
+ * @param status       처리 상태 (선택)
+ * @param eventType    이벤트 타입 (선택)
+ * @param from         수신 시간 하한, 포함 (필수 - 파티션 범위 제한)
+ * @param to           수신 시간 상한, 미포함 (선택)
+ */
+public record WebhookEventLogFilter(
+        String pluginId,
+        Long connectionId,
+        WebhookEventStatus status,
+        String eventType,
+        Instant from,
+        Instant to
+) {
+    public WebhookEventLogFilter {
+        if (pluginId == null || pluginId.isBlank()) {
+            throw new IllegalArgumentException("pluginId is required");
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("from is required");
+        }
+        if (to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+    }
+}
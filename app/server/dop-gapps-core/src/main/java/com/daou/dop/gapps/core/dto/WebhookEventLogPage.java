@@ -0,0 +1,15 @@
+package com.daou.dop.gapps.core.dto;
+
+import java.util.List;
+
+/**
+ * 웹훅 이벤트 로그 페이지
+ *
+ * @param items      로그 요약 목록 (createdAt, id 내림차순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record WebhookEventLogPage(
+        List<WebhookEventLogSummary> items,
+        String nextCursor
+) {
+}
@@ -1,74 +1,255 @@
 package com.daou.dop.gapps.core.execute;
 
-import com.daou.dop.gapps.core.connection.ConnectionService;
+import com.daou.dop.gapps.core.connection.TokenRefreshCoordinator;
 import com.daou.dop.gapps.core.credential.CredentialProvider;
 import com.daou.dop.gapps.core.dto.CredentialInfo;
+import com.daou.dop.gapps.core.dto.ExecuteBatchCommand;
+import com.daou.dop.gapps.core.dto.ExecuteBatchResult;
 import com.daou.dop.gapps.core.dto.ExecuteCommand;
+import com.daou.dop.gapps.core.dto.ExecuteParallelCommand;
+import com.daou.dop.gapps.core.dto.ExecuteParallelResult;
 import com.daou.dop.gapps.core.dto.ExecuteResult;
+import com.daou.dop.gapps.core.plugin.PluginRegistry;
+import com.daou.dop.gapps.plugin.sdk.AsyncSupport;
 import com.daou.dop.gapps.plugin.sdk.CredentialContext;
 import com.daou.dop.gapps.plugin.sdk.ExecuteRequest;
 import com.daou.dop.gapps.plugin.sdk.ExecuteResponse;
 import com.daou.dop.gapps.plugin.sdk.PluginExecutor;
-import jakarta.annotation.PostConstruct;
-import org.pf4j.PluginManager;
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class PluginExecutorService {
 
     private static final Logger log = LoggerFactory.getLogger(PluginExecutorService.class);
 
-    private final PluginManager pluginManager;
+    private final PluginRegistry pluginRegistry;
     private final CredentialProvider credentialProvider;
-    private final ConnectionService connectionService;
-    private final Map<String, PluginExecutor> executorMap = new ConcurrentHashMap<>();
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
+    private final ProviderRateLimiter rateLimiter;
+    private final int rateLimitMaxRetries;
+    private final int batchMaxSize;
+    private final int batchConcurrency;
+    private final int parallelMaxCalls;
+    private final Duration parallelDefaultTimeout;
+    private final Duration parallelMaxTimeout;
 
     public PluginExecutorService(
-            PluginManager pluginManager,
+            PluginRegistry pluginRegistry,
             CredentialProvider credentialProvider,
-            ConnectionService connectionService) {
-        this.pluginManager = pluginManager;
+            TokenRefreshCoordinator tokenRefreshCoordinator,
+            ProviderRateLimiter rateLimiter,
+            @Value("${execute.rate-limit.max-retries:2}") int rateLimitMaxRetries,
+            @Value("${execute.batch.max-size:10000}") int batchMaxSize,
+            @Value("${execute.batch.concurrency:32}") int batchConcurrency,
+            @Value("${execute.parallel.max-calls:50}") int parallelMaxCalls,
+            @Value("${execute.parallel.default-timeout:10s}") Duration parallelDefaultTimeout,
+            @Value("${execute.parallel.max-timeout:30s}") Duration parallelMaxTimeout) {
+        this.pluginRegistry = pluginRegistry;
         this.credentialProvider = credentialProvider;
-        this.connectionService = connectionService;
+        this.tokenRefreshCoordinator = tokenRefreshCoordinator;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitMaxRetries = rateLimitMaxRetries;
+        this.batchMaxSize = batchMaxSize;
+        this.batchConcurrency = batchConcurrency;
+        this.parallelMaxCalls = parallelMaxCalls;
+        this.parallelDefaultTimeout = parallelDefaultTimeout;
+        this.parallelMaxTimeout = parallelMaxTimeout;
     }
 
-    @PostConstruct
-    public void initialize() {
-        List<PluginExecutor> executors = pluginManager.getExtensions(PluginExecutor.class);
+    /**
+     * 플러그인 API 실행 (core DTO 사용)
+     */
+    public ExecuteResult execute(ExecuteCommand command) {
+        String pluginId = command.pluginId();
+        String action = command.action();
 
-        for (PluginExecutor executor : executors) {
-            String pluginId = executor.getPluginId();
-            executorMap.put(pluginId, executor);
-            log.info("Registered PluginExecutor: {} (actions: {})", pluginId, executor.getSupportedActions());
+        PluginExecutor executor = pluginId != null ? pluginRegistry.findPluginExecutor(pluginId).orElse(null) : null;
+        ExecuteResult invalid = validate(pluginId, action, executor);
+        if (invalid != null) {
+            return invalid;
         }
 
-        log.info("Total {} PluginExecutors registered", executorMap.size());
+        // core DTO → plugin-sdk DTO 변환
+        ExecuteRequest request = toExecuteRequest(command);
+
+        // Credential 조회 및 요청에 주입
+        ExecuteRequest enrichedRequest = enrichWithCredential(request);
+
+        return invoke(executor, enrichedRequest);
     }
 
     /**
-     * 플러그인 API 실행 (core DTO 사용)
+     * 플러그인 API 일괄 실행
+     *
+     * <p>대상 연동의 인증 정보를 한 번에 조회한 뒤 항목별 실행을 Virtual Thread에서 병렬로 수행한다.
+     * 동시 실행 수는 {@code execute.batch.concurrency}로 제한되며, 만료된 토큰은 항목별로 갱신한다.
      */
-    public ExecuteResult execute(ExecuteCommand command) {
+    public ExecuteBatchResult executeBatch(ExecuteBatchCommand command) {
         String pluginId = command.pluginId();
+        String action = command.action();
+
+        PluginExecutor executor = pluginId != null ? pluginRegistry.findPluginExecutor(pluginId).orElse(null) : null;
+        ExecuteResult invalid = validate(pluginId, action, executor);
+        if (invalid != null) {
+            return ExecuteBatchResult.error(invalid.statusCode(), invalid.error());
+        }
+
+        List<String> externalIds = command.externalIds();
+        if (externalIds == null || externalIds.isEmpty()) {
+            return ExecuteBatchResult.error(400, "externalIds is required");
+        }
+        if (externalIds.size() > batchMaxSize) {
+            return ExecuteBatchResult.error(400, "Too many externalIds (max " + batchMaxSize + ")");
+        }
+
+        // 비어 있는 항목은 조회 대상에서 빼고 항목별 400 오류로 남긴다
+        Set<String> lookupIds = externalIds.stream()
+                .filter(PluginExecutorService::hasText)
+                .collect(Collectors.toSet());
+        Map<String, CredentialInfo> credentials = credentialProvider.getCredentialInfos(pluginId, lookupIds);
+        log.info("Executing plugin batch: {}, action: {}, items: {}, credentials: {}",
+                pluginId, action, externalIds.size(), credentials.size());
+
+        Semaphore permits = new Semaphore(batchConcurrency);
+        List<Future<ExecuteResult>> futures = new ArrayList<>(externalIds.size());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String externalId : externalIds) {
+                if (!hasText(externalId)) {
+                    futures.add(CompletableFuture.completedFuture(ExecuteResult.error(400, "externalId is required")));
+                    continue;
+                }
+                permits.acquireUninterruptibly();
+                futures.add(workers.submit(() -> {
+                    // 토큰 갱신 실패 등 항목 하나의 예외가 배치 전체를 실패시키지 않도록 항목 결과로 변환
+                    try {
+                        ExecuteRequest request = toExecuteRequest(pluginId, action, command.params(), externalId);
+                        CredentialInfo credential = credentials.get(externalId);
+                        return invoke(executor, credential != null ? withCredential(request, credential) : request);
+                    } catch (Exception e) {
+                        log.warn("Batch item failed: plugin={}, externalId={}, error={}", pluginId, externalId, e.getMessage());
+                        return ExecuteResult.error("Execution failed: " + e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<ExecuteBatchResult.Item> results = new ArrayList<>(externalIds.size());
+        for (int i = 0; i < externalIds.size(); i++) {
+            results.add(new ExecuteBatchResult.Item(externalIds.get(i), batchItemResult(futures.get(i))));
+        }
+        return ExecuteBatchResult.of(results);
+    }
+
+    /**
+     * 완료된 배치 항목의 결과 (실패·취소된 항목도 예외 없이 오류 결과로 변환)
+     */
+    private static ExecuteResult batchItemResult(Future<ExecuteResult> future) {
+        return switch (future.state()) {
+            case SUCCESS -> future.resultNow();
+            case FAILED -> ExecuteResult.error("Execution failed: " + future.exceptionNow().getMessage());
+            case CANCELLED, RUNNING -> ExecuteResult.error("Execution cancelled");
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * 플러그인 API 병렬 실행
+     *
+     * <p>호출별로 {@link #executeAsync}를 시작하고 모두 끝나면 요청 순서대로 결과를 모은다.
+     * 마감을 넘긴 호출은 504 결과로 채워지며, 반환된 future를 취소하면 진행 중인 호출도 모두 취소된다.
+     *
+     * @param requestedTimeout 호출 측이 요청한 대기 시간 (null이면 기본값, 최대 {@code execute.parallel.max-timeout})
+     */
+    public CompletableFuture<ExecuteParallelResult> executeParallel(ExecuteParallelCommand command,
+                                                                    Duration requestedTimeout) {
+        List<ExecuteCommand> calls = command.calls();
+        if (calls == null || calls.isEmpty()) {
+            return CompletableFuture.completedFuture(ExecuteParallelResult.error(400, "calls is required"));
+        }
+        if (calls.size() > parallelMaxCalls) {
+            return CompletableFuture.completedFuture(
+                    ExecuteParallelResult.error(400, "Too many calls (max " + parallelMaxCalls + ")"));
+        }
+
+        Duration timeout = resolveTimeout(requestedTimeout);
+        List<CompletableFuture<ExecuteResult>> futures = calls.stream()
+                .map(call -> executeAsync(call, timeout))
+                .toList();
+
+        CompletableFuture<ExecuteParallelResult> result = CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> ExecuteParallelResult.of(futures.stream().map(CompletableFuture::join).toList()));
+        result.whenComplete((parallelResult, error) -> {
+            if (result.isCancelled()) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 플러그인 API 비동기 실행
+     *
+     * <p>인증 정보 조회와 호출 한도 대기는 Virtual Thread에서, 플러그인 호출은 {@link PluginExecutor#executeAsync}로 수행한다.
+     * 마감({@code timeout})이 지나면 504로 완료하고 진행 중인 호출을 취소하며, 반환된 future를 취소해도 같다.
+     */
+    public CompletableFuture<ExecuteResult> executeAsync(ExecuteCommand command, Duration timeout) {
+        String pluginId = command.pluginId();
+        String action = command.action();
+
+        PluginExecutor executor = pluginId != null ? pluginRegistry.findPluginExecutor(pluginId).orElse(null) : null;
+        ExecuteResult invalid = validate(pluginId, action, executor);
+        if (invalid != null) {
+            return CompletableFuture.completedFuture(invalid);
+        }
+
+        ExecuteRequest request = toExecuteRequest(command, Instant.now().plus(timeout));
+        return new AsyncInvocation(executor, request).start(timeout);
+    }
+
+    private Duration resolveTimeout(Duration requested) {
+        if (requested == null || requested.isNegative() || requested.isZero()) {
+            return parallelDefaultTimeout;
+        }
+        return requested.compareTo(parallelMaxTimeout) > 0 ? parallelMaxTimeout : requested;
+    }
 
+    private ExecuteResult validate(String pluginId, String action, PluginExecutor executor) {
         if (pluginId == null || pluginId.isBlank()) {
             return ExecuteResult.error(400, "pluginId is required");
         }
 
-        PluginExecutor executor = executorMap.get(pluginId);
-
         if (executor == null) {
             return ExecuteResult.error(404, "Plugin not found: " + pluginId);
         }
 
-        String action = command.action();
         if (action == null || action.isBlank()) {
             return ExecuteResult.error(400, "action is required");
         }
@@ -76,17 +257,38 @@ public class PluginExecutorService {
         if (!executor.supportsAction(action)) {
             return ExecuteResult.error(400, "Unsupported action: " + action);
         }
+        return null;
+    }
 
-        // core DTO → plugin-sdk DTO 변환
-        ExecuteRequest request = toExecuteRequest(command);
-
-        // Credential 조회 및 요청에 주입
-        ExecuteRequest enrichedRequest = enrichWithCredential(request);
+    /**
+     * 호출 한도를 지키며 실행
+     * Provider가 429로 거절하면 학습한 대기 시간 뒤 {@code execute.rate-limit.max-retries}회까지 다시 호출하고,
+     * 대기가 너무 길면 429와 재시도 가능 시간을 호출 측에 돌려준다.
+     */
+    private ExecuteResult invoke(PluginExecutor executor, ExecuteRequest request) {
+        String pluginId = request.pluginId();
+        String externalId = request.getStringParam("externalId");
+        String tier = request.action();
 
         try {
-            log.debug("Executing plugin: {}, action: {}", pluginId, action);
-            ExecuteResponse response = executor.execute(enrichedRequest);
-            return toExecuteResult(response);
+            for (int attempt = 0; ; attempt++) {
+                Optional<Duration> rejected = rateLimiter.acquire(pluginId, externalId, tier);
+                if (rejected.isPresent()) {
+                    return ExecuteResult.rateLimited("Rate limit exceeded for " + pluginId + ": " + tier, rejected.get());
+                }
+
+                log.debug("Executing plugin: {}, action: {}", pluginId, tier);
+                ExecuteResponse response = executor.execute(request);
+
+                boolean throttled = response.statusCode() == 429;
+                rateLimiter.record(pluginId, externalId, tier, response.rateLimit(), throttled);
+                if (!throttled || attempt >= rateLimitMaxRetries) {
+                    return toExecuteResult(response);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ExecuteResult.error(503, "Interrupted while waiting for rate limit");
         } catch (Exception e) {
             log.error("Plugin execution failed: {}", pluginId, e);
             return ExecuteResult.error("Execution failed: " + e.getMessage());
@@ -104,19 +306,19 @@ public class PluginExecutorService {
             return request;
         }
 
-        String pluginId = request.pluginId();
-        Optional<CredentialInfo> credentialOpt = credentialProvider.getCredentialInfo(pluginId, externalId);
-
-        if (credentialOpt.isEmpty()) {
-            return request;
-        }
+        return credentialProvider.getCredentialInfo(request.pluginId(), externalId)
+                .map(credential -> withCredential(request, credential))
+                .orElse(request);
+    }
 
-        CredentialInfo credential = credentialOpt.get();
+    private ExecuteRequest withCredential(ExecuteRequest request, CredentialInfo credential) {
+        String pluginId = request.pluginId();
+        String externalId = credential.externalId();
 
-        // 토큰 만료 확인 및 갱신
+        // 토큰 만료 확인 및 갱신 (동시 요청은 진행 중인 갱신 결과를 공유)
         if (credential.isExpired()) {
             log.info("Token expired for plugin={}, externalId={}, attempting refresh", pluginId, externalId);
-            Optional<CredentialInfo> refreshedCredential = connectionService.refreshAndSaveToken(pluginId, externalId);
+            Optional<CredentialInfo> refreshedCredential = tokenRefreshCoordinator.refresh(pluginId, externalId);
             if (refreshedCredential.isPresent()) {
                 credential = refreshedCredential.get();
                 log.info("Token refreshed successfully for plugin={}, externalId={}", pluginId, externalId);
@@ -130,34 +332,153 @@ public class PluginExecutorService {
                 .action(request.action())
                 .params(request.params())
                 .credential(toCredentialContext(credential))
+                .deadline(request.deadline())
                 .build();
     }
 
     public boolean hasPlugin(String pluginId) {
-        return executorMap.containsKey(pluginId);
+        return pluginRegistry.findPluginExecutor(pluginId).isPresent();
     }
 
     public List<String> getSupportedActions(String pluginId) {
-        PluginExecutor executor = executorMap.get(pluginId);
-        return executor != null ? executor.getSupportedActions() : List.of();
+        return pluginRegistry.findPluginExecutor(pluginId)
+                .map(PluginExecutor::getSupportedActions)
+                .orElse(List.of());
+    }
+
+    /**
+     * 비동기 실행 1건의 진행 상태
+     * 현재 진행 중인 단계(인증 정보 조회, 한도 대기, 플러그인 호출)를 추적해 마감/취소 시 함께 취소한다.
+     * 429 재시도 규칙은 동기 실행({@link #invoke})과 같다.
+     */
+    private final class AsyncInvocation {
+
+        private final PluginExecutor executor;
+        private final ExecuteRequest request;
+        private final CompletableFuture<ExecuteResult> result = new CompletableFuture<>();
+        private volatile Future<?> inFlight;
+        private int retries;
+
+        private AsyncInvocation(PluginExecutor executor, ExecuteRequest request) {
+            this.executor = executor;
+            this.request = request;
+            result.whenComplete((executeResult, error) -> {
+                Future<?> current = inFlight;
+                if (current != null && !current.isDone()) {
+                    current.cancel(true);
+                }
+            });
+        }
+
+        CompletableFuture<ExecuteResult> start(Duration timeout) {
+            result.completeOnTimeout(ExecuteResult.error(504, "Deadline exceeded"), timeout.toMillis(), TimeUnit.MILLISECONDS);
+            track(AsyncSupport.supplyInterruptibly(() -> enrichWithCredential(request)))
+                    .whenComplete((enriched, error) -> {
+                        if (error != null) {
+                            fail(error);
+                        } else {
+                            attempt(enriched);
+                        }
+                    });
+            return result;
+        }
+
+        private void attempt(ExecuteRequest enriched) {
+            String externalId = enriched.getStringParam("externalId");
+            track(AsyncSupport.supplyInterruptibly(() -> acquirePermit(enriched.pluginId(), externalId, enriched.action())))
+                    .whenComplete((rejected, error) -> {
+                        if (error != null) {
+                            fail(error);
+                        } else if (rejected.isPresent()) {
+                            result.complete(ExecuteResult.rateLimited(
+                                    "Rate limit exceeded for " + enriched.pluginId() + ": " + enriched.action(), rejected.get()));
+                        } else if (!result.isDone()) {
+                            log.debug("Executing plugin async: {}, action: {}", enriched.pluginId(), enriched.action());
+                            track(executor.executeAsync(enriched).toCompletableFuture())
+                                    .whenComplete((response, callError) -> onResponse(enriched, externalId, response, callError));
+                        }
+                    });
+        }
+
+        private void onResponse(ExecuteRequest enriched, String externalId, ExecuteResponse response, Throwable error) {
+            if (error != null) {
+                fail(error);
+                return;
+            }
+            boolean throttled = response.statusCode() == 429;
+            rateLimiter.record(enriched.pluginId(), externalId, enriched.action(), response.rateLimit(), throttled);
+            if (throttled && retries < rateLimitMaxRetries && !result.isDone()) {
+                retries++;
+                attempt(enriched);
+                return;
+            }
+            result.complete(toExecuteResult(response));
+        }
+
+        private void fail(Throwable error) {
+            if (result.isDone()) {
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            log.error("Plugin async execution failed: {}", request.pluginId(), cause);
+            result.complete(ExecuteResult.error("Execution failed: " + cause.getMessage()));
+        }
+
+        private <T> CompletableFuture<T> track(CompletableFuture<T> step) {
+            inFlight = step;
+            if (result.isDone()) {
+                step.cancel(true);
+            }
+            return step;
+        }
+    }
+
+    private Optional<Duration> acquirePermit(String pluginId, String externalId, String tier) {
+        try {
+            return rateLimiter.acquire(pluginId, externalId, tier);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for rate limit");
+        }
     }
 
     // ========== 변환 메서드 ==========
 
     private ExecuteRequest toExecuteRequest(ExecuteCommand command) {
+        return toExecuteRequest(command, null);
+    }
+
+    private ExecuteRequest toExecuteRequest(ExecuteCommand command, Instant deadline) {
         return ExecuteRequest.builder()
                 .pluginId(command.pluginId())
                 .action(command.action())
                 .params(command.params())
+                .deadline(deadline)
+                .build();
+    }
+
+    private ExecuteRequest toExecuteRequest(String pluginId, String action, Map<String, Object> commonParams,
+                                            String externalId) {
+        Map<String, Object> params = commonParams != null ? new HashMap<>(commonParams) : new HashMap<>();
+        params.put("externalId", externalId);
+        return ExecuteRequest.builder()
+                .pluginId(pluginId)
+                .action(action)
+                .params(params)
                 .build();
     }
 
     private ExecuteResult toExecuteResult(ExecuteResponse response) {
+        RateLimitInfo rateLimit = response.rateLimit();
+        Long retryAfterSeconds = response.statusCode() == 429 && rateLimit != null && rateLimit.retryAfter() != null
+                ? Math.max(1, rateLimit.retryAfter().toSeconds())
+                : null;
         return new ExecuteResult(
                 response.success(),
                 response.statusCode(),
                 response.body(),
-                response.error()
+                response.error(),
+                retryAfterSeconds
         );
     }
 
@@ -0,0 +1,224 @@
+package com.daou.dop.gapps.core.execute;
+
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Provider 호출 한도 제어 (token bucket)
+ *
+ * <p>(pluginId, externalId, tier) 단위 버킷으로 호출 속도를 맞춘다. tier는 액션 이름이다
+ * (Slack tier, Graph/Jira 한도 모두 메서드 단위로 적용되므로).
+ * <ul>
+ *   <li>토큰이 없으면 호출 스레드(Virtual Thread)를 다음 토큰 시각까지 재운다 - 실패시키지 않고 지연</li>
+ *   <li>대기가 {@code max-wait}를 넘거나 버킷 대기자가 {@code max-waiters}를 넘으면 즉시 거절하고
+ *       재시도 가능 시간을 돌려준다 (호출 측 backpressure)</li>
+ *   <li>응답 헤더(Retry-After, X-RateLimit-*)로 학습:
+ *       Retry-After/남은 호출 0이면 해당 시각까지 버킷을 멈추고,
+ *       남은 호출 수가 초기화 시각까지 고르게 쓰이도록 속도를 낮춘다 (설정값보다 빨라지지는 않음)</li>
+ * </ul>
+ * 버킷은 {@code idle-expiry} 동안 쓰이지 않으면 제거된다.
+ *
+ * <p>메트릭: plugin.execute.ratelimit{plugin, result=delayed|rejected|throttled}
+ */
+@Component
+public class ProviderRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ProviderRateLimiter.class);
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final boolean enabled;
+    private final double ratePerSecond;
+    private final double burst;
+    private final long maxWaitNanos;
+    private final int maxWaiters;
+    private final Duration defaultBackoff;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Key, Bucket> buckets;
+
+    public ProviderRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${execute.rate-limit.enabled:true}") boolean enabled,
+            @Value("${execute.rate-limit.rate:10}") double ratePerSecond,
+            @Value("${execute.rate-limit.burst:20}") double burst,
+            @Value("${execute.rate-limit.max-wait:5s}") Duration maxWait,
+            @Value("${execute.rate-limit.max-waiters:200}") int maxWaiters,
+            @Value("${execute.rate-limit.default-backoff:1s}") Duration defaultBackoff,
+            @Value("${execute.rate-limit.idle-expiry:10m}") Duration idleExpiry) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxWaiters = maxWaiters;
+        this.defaultBackoff = defaultBackoff;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * 호출 허가 획득 (필요하면 대기)
+     *
+     * @return 거절된 경우 재시도 가능까지의 시간, 허가되면 Optional.empty
+     */
+    public Optional<Duration> acquire(String pluginId, String externalId, String tier) throws InterruptedException {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Bucket bucket = bucket(pluginId, externalId, tier);
+        long waitNanos = bucket.reserve(System.nanoTime(), maxWaitNanos, maxWaiters);
+        if (waitNanos < 0) {
+            count(pluginId, "rejected");
+            return Optional.of(Duration.ofNanos(-waitNanos));
+        }
+        if (waitNanos > 0) {
+            count(pluginId, "delayed");
+            try {
+                Thread.sleep(Duration.ofNanos(waitNanos));
+            } finally {
+                bucket.leave();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 응답의 한도 정보 반영
+     *
+     * @param throttled Provider가 429로 거절한 경우 true (Retry-After가 없으면 기본 backoff 적용)
+     */
+    public void record(String pluginId, String externalId, String tier, RateLimitInfo info, boolean throttled) {
+        if (!enabled || (info == null && !throttled)) {
+            return;
+        }
+        if (throttled) {
+            count(pluginId, "throttled");
+            log.warn("Provider rate limited: plugin={}, externalId={}, tier={}, retryAfter={}",
+                    pluginId, externalId, tier, info != null ? info.retryAfter() : null);
+            if (info == null || info.retryAfter() == null) {
+                info = new RateLimitInfo(
+                        info != null ? info.limit() : null,
+                        info != null ? info.remaining() : null,
+                        info != null ? info.resetAt() : null,
+                        defaultBackoff);
+            }
+        }
+        bucket(pluginId, externalId, tier).learn(info, System.nanoTime(), Instant.now());
+    }
+
+    private Bucket bucket(String pluginId, String externalId, String tier) {
+        return buckets.get(new Key(pluginId, externalId, tier), key -> new Bucket(ratePerSecond, burst));
+    }
+
+    private void count(String pluginId, String result) {
+        Counter.builder("plugin.execute.ratelimit")
+                .tag("plugin", pluginId)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(String pluginId, String externalId, String tier) {
+    }
+
+    /**
+     * 예약 방식 token bucket
+     * 토큰을 음수까지 미리 빌려 쓰고, 빚을 갚을 때까지의 시간만큼 호출자가 대기한다.
+     */
+    private static final class Bucket {
+
+        private final double configuredRate;
+        private final double capacity;
+
+        private double tokens;
+        private double ratePerNano;
+        private long lastRefillNanos;
+        private long pausedUntilNanos;
+        private long pacedUntilNanos;
+        private int waiters;
+
+        private Bucket(double ratePerSecond, double capacity) {
+            this.configuredRate = ratePerSecond / NANOS_PER_SECOND;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.ratePerNano = configuredRate;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * @return 대기 시간(ns), 0이면 즉시 호출, 음수면 거절(절댓값은 재시도 가능까지의 시간)
+         */
+        synchronized long reserve(long now, long maxWaitNanos, int maxWaiters) {
+            refill(now);
+            double afterTake = tokens - 1;
+            long debtNanos = afterTake < 0 ? (long) Math.ceil(-afterTake / ratePerNano) : 0;
+            long waitNanos = Math.max(debtNanos, pausedUntilNanos - now);
+
+            if (waitNanos > maxWaitNanos || (waitNanos > 0 && waiters >= maxWaiters)) {
+                return -Math.max(waitNanos, 1);
+            }
+            tokens = afterTake;
+            if (waitNanos > 0) {
+                waiters++;
+            }
+            return waitNanos;
+        }
+
+        synchronized void leave() {
+            waiters--;
+        }
+
+        synchronized void learn(RateLimitInfo info, long now, Instant wallNow) {
+            refill(now);
+            if (info.retryAfter() != null) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, now + info.retryAfter().toNanos());
+                tokens = Math.min(tokens, 0);
+            }
+
+            if (info.remaining() == null) {
+                return;
+            }
+            tokens = Math.min(tokens, info.remaining());
+
+            if (info.resetAt() == null) {
+                return;
+            }
+            long untilResetNanos = Duration.between(wallNow, info.resetAt()).toNanos();
+            if (untilResetNanos <= 0) {
+                ratePerNano = configuredRate;
+                return;
+            }
+            if (info.remaining() <= 0) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, now + untilResetNanos);
+            }
+            // 남은 호출을 초기화 시각까지 나눠 쓰는 속도 (설정값을 넘지 않음)
+            double pacedRate = Math.max(info.remaining(), 1) / (double) untilResetNanos;
+            ratePerNano = Math.min(configuredRate, pacedRate);
+            pacedUntilNanos = now + untilResetNanos;
+        }
+
+        private void refill(long now) {
+            // 초기화 시각이 지나면 설정 속도로 복귀
+            if (ratePerNano != configuredRate && now - pacedUntilNanos >= 0) {
+                ratePerNano = configuredRate;
+            }
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * ratePerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.daou.dop.gapps.core.http;
+
+import com.daou.dop.gapps.plugin.sdk.HttpClientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플러그인 공용 HTTP 클라이언트 ({@link HttpClientService} 호스트 구현)
+ *
+ * <p>모든 플러그인이 하나의 JDK HttpClient 커넥션 풀을 공유한다.
+ * <ul>
+ *   <li>HTTP/2 우선 (서버가 지원하지 않으면 HTTP/1.1), 응답 처리는 Virtual Thread에서 수행</li>
+ *   <li>목적지 호스트별 동시 요청 수를 {@code http.client.max-connections-per-host}로 제한</li>
+ *   <li>타임아웃이 없는 요청에는 {@code http.client.request-timeout} 적용</li>
+ *   <li>유휴 연결 유지 시간은 JVM 옵션 {@code -Djdk.httpclient.keepalive.timeout}(초)으로 조정</li>
+ * </ul>
+ *
+ * <p>메트릭: http.client.plugin.requests{host, method, status} (status: HTTP 코드 또는 IO_ERROR)
+ */
+@Component
+public class PooledHttpClientService implements HttpClientService {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledHttpClientService.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration requestTimeout;
+    private final int maxConnectionsPerHost;
+    private final Duration acquireTimeout;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public PooledHttpClientService(
+            MeterRegistry meterRegistry,
+            @Value("${http.client.connect-timeout:10s}") Duration connectTimeout,
+            @Value("${http.client.request-timeout:30s}") Duration requestTimeout,
+            @Value("${http.client.max-connections-per-host:64}") int maxConnectionsPerHost,
+            @Value("${http.client.acquire-timeout:10s}") Duration acquireTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.requestTimeout = requestTimeout;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.acquireTimeout = acquireTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        log.info("Plugin HTTP client initialized: connectTimeout={}, requestTimeout={}, maxConnectionsPerHost={}",
+                connectTimeout, requestTimeout, maxConnectionsPerHost);
+    }
+
+    @Override
+    public HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(requestTimeout);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        String host = hostOf(request);
+        Semaphore permits = permits(host);
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IOException("Too many concurrent requests to " + host);
+        }
+
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            HttpResponse<T> response = httpClient.send(withDefaultTimeout(request), bodyHandler);
+            status = Integer.toString(response.statusCode());
+            return response;
+        } finally {
+            permits.release();
+            record(host, request.method(), status, start);
+        }
+    }
+
+    /**
+     * 비동기 요청 실행
+     * 호스트 동시 요청 한도에 여유가 있으면 호출 스레드에서 바로 전송하고,
+     * 없으면 Virtual Thread에서 허가를 기다린 뒤 전송한다.
+     * 반환된 future를 취소하면 허가 대기 또는 진행 중인 교환을 중단한다.
+     */
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        String host = hostOf(request);
+        Semaphore permits = permits(host);
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+
+        if (permits.tryAcquire()) {
+            startExchange(request, bodyHandler, host, permits, result);
+            return result;
+        }
+
+        Future<?> waiting = executor.submit(() -> {
+            try {
+                if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    result.completeExceptionally(new IOException("Too many concurrent requests to " + host));
+                    return;
+                }
+            } catch (InterruptedException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (result.isDone()) {
+                permits.release();
+                return;
+            }
+            startExchange(request, bodyHandler, host, permits, result);
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                waiting.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> void startExchange(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            String host,
+            Semaphore permits,
+            CompletableFuture<HttpResponse<T>> result) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> exchange = httpClient.sendAsync(withDefaultTimeout(request), bodyHandler);
+        exchange.whenComplete((response, error) -> {
+            permits.release();
+            record(host, request.method(), response != null ? Integer.toString(response.statusCode()) : "IO_ERROR", start);
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            } else {
+                result.complete(response);
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+    }
+
+    private HttpRequest withDefaultTimeout(HttpRequest request) {
+        return request.timeout().isPresent()
+                ? request
+                : HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build();
+    }
+
+    private Semaphore permits(String host) {
+        return hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConnectionsPerHost));
+    }
+
+    private static String hostOf(HttpRequest request) {
+        return request.uri().getHost() != null ? request.uri().getHost() : "unknown";
+    }
+
+    private void record(String host, String method, String status, long startNanos) {
+        Timer.builder("http.client.plugin.requests")
+                .tag("host", host)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+        executor.close();
+    }
+}
@@ -24,4 +24,19 @@ public interface PkceService {
      * @return code_verifier 또는 null
      */
     String consumeCodeVerifier(String state);
+
+    /**
+     * PKCE code_verifier 생성 (저장하지 않음 - 서명된 state에 담는 경우)
+     *
+     * @return code_verifier (43-128자 URL-safe random string)
+     */
+    String generateCodeVerifier();
+
+    /**
+     * code_verifier로부터 code_challenge 계산
+     *
+     * @param codeVerifier PKCE code_verifier
+     * @return code_challenge (SHA256 해시, Base64 URL-safe 인코딩)
+     */
+    String generateCodeChallenge(String codeVerifier);
 }
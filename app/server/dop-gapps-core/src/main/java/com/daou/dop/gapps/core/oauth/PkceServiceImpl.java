@@ -37,7 +37,8 @@ public class PkceServiceImpl implements PkceService {
     /**
      * PKCE code_verifier 생성 (43-128자 URL-safe random string)
      */
-    private String generateCodeVerifier() {
+    @Override
+    public String generateCodeVerifier() {
         SecureRandom secureRandom = new SecureRandom();
         byte[] codeVerifier = new byte[64];
         secureRandom.nextBytes(codeVerifier);
@@ -47,7 +48,8 @@ public class PkceServiceImpl implements PkceService {
     /**
      * PKCE code_challenge 생성 (code_verifier의 SHA256 해시)
      */
-    private String generateCodeChallenge(String codeVerifier) {
+    @Override
+    public String generateCodeChallenge(String codeVerifier) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(codeVerifier.getBytes(StandardCharsets.US_ASCII));
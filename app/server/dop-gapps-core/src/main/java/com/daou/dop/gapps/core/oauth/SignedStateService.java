@@ -0,0 +1,236 @@
+package com.daou.dop.gapps.core.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 서명된 OAuth state 토큰 (oauth.state.mode=signed)
+ *
+ * <p>state 자체에 pluginId, 만료 시각, nonce, 암호화된 PKCE code_verifier를 담고 HMAC-SHA256으로 서명한다.
+ * 콜백이 어느 노드로 들어와도 공유 저장소 없이 검증할 수 있다.
+ * <ul>
+ *   <li>형식: {@code base64url(payload) "." base64url(hmac)},
+ *       payload = {@code pluginId|expiresAtEpochSecond|nonce|encryptedVerifier}</li>
+ *   <li>code_verifier는 AES-256-GCM으로 암호화하고 nonce를 AAD로 묶는다 (브라우저 URL에 평문 노출 방지)</li>
+ *   <li>서명/암호화 키는 {@code oauth.state.signing-secret}에서 용도별로 유도한다</li>
+ *   <li>재사용 방지: 소비한 nonce를 토큰 만료 시각까지 노드 로컬 캐시에 보관한다.
+ *       다른 노드로의 재전송은 막지 못하지만 만료 시간으로 범위가 제한되고,
+ *       authorization code 자체가 Provider에서 일회용이다</li>
+ * </ul>
+ */
+@Service
+public class SignedStateService {
+
+    private static final Logger log = LoggerFactory.getLogger(SignedStateService.class);
+
+    private static final String SEPARATOR = "|";
+    private static final int NONCE_BYTES = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final SecretKeySpec macKey;
+    private final SecretKeySpec encryptionKey;
+    private final Cache<String, Instant> consumedNonces;
+    private final SecureRandom random = new SecureRandom();
+
+    public SignedStateService(
+            @Value("${oauth.state.mode:storage}") String mode,
+            @Value("${oauth.state.signing-secret:}") String signingSecret,
+            @Value("${oauth.state.replay-cache-size:100000}") long replayCacheSize) {
+        this.enabled = "signed".equalsIgnoreCase(mode);
+        if (enabled && signingSecret.isBlank()) {
+            throw new IllegalStateException("oauth.state.signing-secret is required when oauth.state.mode=signed");
+        }
+        this.macKey = new SecretKeySpec(deriveKey(signingSecret, "oauth-state:mac"), "HmacSHA256");
+        this.encryptionKey = new SecretKeySpec(deriveKey(signingSecret, "oauth-state:enc"), "AES");
+        this.consumedNonces = Caffeine.newBuilder()
+                .maximumSize(replayCacheSize)
+                .expireAfter(new UntilExpiry())
+                .build();
+        if (enabled) {
+            log.info("Signed OAuth state enabled");
+        }
+    }
+
+    /**
+     * 서명 모드 사용 여부 (oauth.state.mode=signed)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 서명된 state 발급
+     *
+     * @param codeVerifier PKCE code_verifier (PKCE 미사용 시 null)
+     */
+    public String issue(String pluginId, String codeVerifier, Duration ttl) {
+        byte[] nonceBytes = new byte[NONCE_BYTES];
+        random.nextBytes(nonceBytes);
+        String nonce = ENCODER.encodeToString(nonceBytes);
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+        String encryptedVerifier = codeVerifier != null ? encrypt(codeVerifier, nonce) : "";
+
+        String payload = String.join(SEPARATOR, pluginId, Long.toString(expiresAt), nonce, encryptedVerifier);
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * state 검증 및 소비 (일회성)
+     *
+     * @return 검증된 state (서명 불일치, 다른 플러그인, 만료, 재사용 시 Optional.empty)
+     */
+    public Optional<VerifiedState> verifyAndConsume(String pluginId, String state) {
+        if (state == null || state.isBlank()) {
+            return Optional.empty();
+        }
+        int dot = state.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(state.substring(0, dot));
+            signature = DECODER.decode(state.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            log.warn("OAuth state signature mismatch: plugin={}", pluginId);
+            return Optional.empty();
+        }
+
+        // 서명이 맞으면 직접 발급한 payload이므로 형식은 신뢰할 수 있다
+        String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", -1);
+        String statePluginId = parts[0];
+        Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[1]));
+        String nonce = parts[2];
+
+        if (!statePluginId.equals(pluginId)) {
+            log.warn("OAuth state issued for another plugin: expected={}, actual={}", pluginId, statePluginId);
+            return Optional.empty();
+        }
+        if (!Instant.now().isBefore(expiresAt)) {
+            return Optional.empty();
+        }
+        if (consumedNonces.asMap().putIfAbsent(nonce, expiresAt) != null) {
+            log.warn("OAuth state replayed: plugin={}", pluginId);
+            return Optional.empty();
+        }
+
+        String codeVerifier = parts[3].isEmpty() ? null : decrypt(parts[3], nonce);
+        return Optional.of(new VerifiedState(nonce, codeVerifier));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(macKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth state signing failed", e);
+        }
+    }
+
+    private String encrypt(String plaintext, String nonce) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(nonce.getBytes(StandardCharsets.US_ASCII));
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(ByteBuffer.allocate(IV_LENGTH + ciphertext.length)
+                    .put(iv)
+                    .put(ciphertext)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth state encryption failed", e);
+        }
+    }
+
+    private String decrypt(String encoded, String nonce) {
+        byte[] payload = DECODER.decode(encoded);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            cipher.updateAAD(nonce.getBytes(StandardCharsets.US_ASCII));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth state decryption failed", e);
+        }
+    }
+
+    /**
+     * 용도별 키 유도 (HMAC-SHA256(secret, purpose))
+     */
+    private static byte[] deriveKey(String secret, String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            byte[] secretBytes = secret.isEmpty()
+                    ? new byte[32]
+                    : secret.getBytes(StandardCharsets.UTF_8);
+            mac.init(new SecretKeySpec(secretBytes, "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth state key derivation failed", e);
+        }
+    }
+
+    /**
+     * 검증된 state
+     *
+     * @param nonce        state nonce
+     * @param codeVerifier PKCE code_verifier (PKCE 미사용 시 null)
+     */
+    public record VerifiedState(String nonce, String codeVerifier) {
+    }
+
+    /**
+     * 소비한 nonce는 토큰 만료 시각까지만 보관
+     */
+    private static final class UntilExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String nonce, Instant expiresAt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String nonce, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String nonce, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,26 +1,44 @@
 package com.daou.dop.gapps.core.plugin;
 
 import com.daou.dop.gapps.core.dto.OAuthTokenInfo;
+import com.daou.dop.gapps.core.dto.OverlayMap;
 import com.daou.dop.gapps.core.dto.PluginConfigInfo;
 import com.daou.dop.gapps.core.oauth.OAuthException;
 import com.daou.dop.gapps.core.oauth.PluginOAuthService;
+import com.daou.dop.gapps.plugin.sdk.HttpClientService;
+import com.daou.dop.gapps.plugin.sdk.HttpClientServiceAware;
 import com.daou.dop.gapps.plugin.sdk.OAuthHandler;
 import com.daou.dop.gapps.plugin.sdk.PluginConfig;
 import com.daou.dop.gapps.plugin.sdk.PluginExecutor;
 import com.daou.dop.gapps.plugin.sdk.TokenInfo;
 import com.daou.dop.gapps.plugin.sdk.WebhookHandler;
+import jakarta.annotation.PostConstruct;
 import org.pf4j.PluginManager;
+import org.pf4j.PluginStateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * 플러그인 레지스트리
  * OAuthHandler, PluginExecutor 등 플러그인 확장점 조회 및 래핑
+ *
+ * <p>확장점은 기동 시 pluginId(소문자) 기준 인덱스로 한 번 구성하고,
+ * PF4J 플러그인 상태 변경(start/stop/unload) 시 인덱스 전체를 새로 만들어 교체한다.
+ * 요청 경로에서는 {@code getExtensions()} 열거 없이 Map 조회만 수행한다.
+ *
+ * <p>{@link HttpClientServiceAware} 확장점에는 인덱스에 등록할 때 호스트 공용 {@link HttpClientService}를 주입한다.
+ *
+ * <p>SDK {@link PluginConfig}는 플러그인 설정 스냅샷({@link PluginConfigInfo} 인스턴스)별로 한 번만 만들어 재사용한다.
  */
 @Component
 public class PluginRegistry implements PluginOAuthService {
@@ -28,9 +46,71 @@ public class PluginRegistry implements PluginOAuthService {
     private static final Logger log = LoggerFactory.getLogger(PluginRegistry.class);
 
     private final PluginManager pluginManager;
+    private final HttpClientService httpClientService;
 
-    public PluginRegistry(PluginManager pluginManager) {
+    private volatile ExtensionIndex index = ExtensionIndex.EMPTY;
+
+    private final Map<String, SdkConfigEntry> sdkConfigs = new ConcurrentHashMap<>();
+
+    public PluginRegistry(PluginManager pluginManager, HttpClientService httpClientService) {
         this.pluginManager = pluginManager;
+        this.httpClientService = httpClientService;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        rebuildIndex();
+        pluginManager.addPluginStateListener(this::onPluginStateChanged);
+    }
+
+    // ========== 확장점 인덱스 ==========
+
+    private void onPluginStateChanged(PluginStateEvent event) {
+        log.info("Plugin state changed: {} {} -> {}, rebuilding extension index",
+                event.getPlugin().getPluginId(), event.getOldState(), event.getPluginState());
+        rebuildIndex();
+    }
+
+    /**
+     * 확장점 인덱스 재구성
+     * 새 인덱스를 완성한 뒤 참조를 교체하므로 조회 측은 항상 일관된 스냅샷을 본다.
+     */
+    synchronized void rebuildIndex() {
+        ExtensionIndex newIndex = new ExtensionIndex(
+                indexByPluginId(pluginManager.getExtensions(OAuthHandler.class), OAuthHandler::getPluginId),
+                indexByPluginId(pluginManager.getExtensions(PluginExecutor.class), PluginExecutor::getPluginId),
+                indexByPluginId(pluginManager.getExtensions(WebhookHandler.class), WebhookHandler::getPluginId)
+        );
+        this.index = newIndex;
+
+        newIndex.executors().values().forEach(executor ->
+                log.info("Registered PluginExecutor: {} (actions: {})",
+                        executor.getPluginId(), executor.getSupportedActions()));
+        log.info("Extension index built: oauthHandlers={}, executors={}, webhookHandlers={}",
+                newIndex.oauthHandlers().size(), newIndex.executors().size(), newIndex.webhookHandlers().size());
+    }
+
+    private <T> Map<String, T> indexByPluginId(List<T> extensions, Function<T, String> pluginIdExtractor) {
+        Map<String, T> indexed = new LinkedHashMap<>();
+        for (T extension : extensions) {
+            String pluginId = pluginIdExtractor.apply(extension);
+            if (pluginId == null) {
+                continue;
+            }
+            // 기존 findFirst() 동작과 동일하게 먼저 등록된 확장점 우선
+            T previous = indexed.putIfAbsent(normalize(pluginId), extension);
+            if (previous != null) {
+                log.warn("Duplicate extension for plugin {}: {} ignored (using {})",
+                        pluginId, extension.getClass().getName(), previous.getClass().getName());
+            } else if (extension instanceof HttpClientServiceAware aware) {
+                aware.setHttpClientService(httpClientService);
+            }
+        }
+        return Map.copyOf(indexed);
+    }
+
+    private static String normalize(String pluginId) {
+        return pluginId.toLowerCase(Locale.ROOT);
     }
 
     // ========== PluginOAuthService 구현 ==========
@@ -45,7 +125,7 @@ public class PluginRegistry implements PluginOAuthService {
         OAuthHandler handler = findOAuthHandler(pluginId)
                 .orElseThrow(() -> new OAuthException("OAuthHandler not found: " + pluginId));
 
-        PluginConfig sdkConfig = toPluginConfig(config);
+        PluginConfig sdkConfig = toSdkConfig(config);
         return handler.buildAuthorizationUrl(sdkConfig, state, redirectUri);
     }
 
@@ -56,7 +136,7 @@ public class PluginRegistry implements PluginOAuthService {
                 .orElseThrow(() -> new OAuthException("OAuthHandler not found: " + pluginId));
 
         try {
-            PluginConfig sdkConfig = toPluginConfig(config);
+            PluginConfig sdkConfig = toSdkConfig(config);
             TokenInfo tokenInfo = handler.exchangeCode(sdkConfig, code, redirectUri);
             return toOAuthTokenInfo(tokenInfo);
         } catch (com.daou.dop.gapps.plugin.sdk.OAuthException e) {
@@ -71,7 +151,7 @@ public class PluginRegistry implements PluginOAuthService {
                 .orElseThrow(() -> new OAuthException("OAuthHandler not found: " + pluginId));
 
         try {
-            PluginConfig sdkConfig = toPluginConfig(config);
+            PluginConfig sdkConfig = toSdkConfig(config);
             TokenInfo tokenInfo = handler.refreshToken(sdkConfig, refreshToken);
             return toOAuthTokenInfo(tokenInfo);
         } catch (com.daou.dop.gapps.plugin.sdk.OAuthException e) {
@@ -111,24 +191,28 @@ public class PluginRegistry implements PluginOAuthService {
     // ========== 내부 조회 메서드 ==========
 
     private Optional<OAuthHandler> findOAuthHandler(String pluginId) {
-        List<OAuthHandler> handlers = pluginManager.getExtensions(OAuthHandler.class);
-        return handlers.stream()
-                .filter(handler -> handler.getPluginId().equalsIgnoreCase(pluginId))
-                .findFirst();
+        return lookup(index.oauthHandlers(), pluginId);
+    }
+
+    /**
+     * PluginExecutor 조회
+     */
+    public Optional<PluginExecutor> findPluginExecutor(String pluginId) {
+        return lookup(index.executors(), pluginId);
     }
 
-    Optional<PluginExecutor> findPluginExecutor(String pluginId) {
-        List<PluginExecutor> executors = pluginManager.getExtensions(PluginExecutor.class);
-        return executors.stream()
-                .filter(executor -> executor.getPluginId().equalsIgnoreCase(pluginId))
-                .findFirst();
+    private <T> Optional<T> lookup(Map<String, T> extensions, String pluginId) {
+        if (pluginId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(extensions.get(normalize(pluginId)));
     }
 
     /**
      * 지원하는 플러그인 ID 목록
      */
     public List<String> getSupportedPluginIds() {
-        return pluginManager.getExtensions(OAuthHandler.class).stream()
+        return index.oauthHandlers().values().stream()
                 .map(OAuthHandler::getPluginId)
                 .toList();
     }
@@ -139,10 +223,7 @@ public class PluginRegistry implements PluginOAuthService {
      * WebhookHandler 조회
      */
     public Optional<WebhookHandler> findWebhookHandler(String pluginId) {
-        List<WebhookHandler> handlers = pluginManager.getExtensions(WebhookHandler.class);
-        return handlers.stream()
-                .filter(handler -> handler.getPluginId().equalsIgnoreCase(pluginId))
-                .findFirst();
+        return lookup(index.webhookHandlers(), pluginId);
     }
 
     /**
@@ -156,14 +237,35 @@ public class PluginRegistry implements PluginOAuthService {
      * 웹훅 지원하는 플러그인 ID 목록
      */
     public List<String> getWebhookSupportedPluginIds() {
-        return pluginManager.getExtensions(WebhookHandler.class).stream()
+        return index.webhookHandlers().values().stream()
                 .map(WebhookHandler::getPluginId)
                 .toList();
     }
 
     // ========== 변환 메서드 ==========
 
-    private PluginConfig toPluginConfig(PluginConfigInfo info) {
+    /**
+     * PluginConfigInfo → SDK PluginConfig
+     * 같은 스냅샷 인스턴스면 이전에 만든 PluginConfig를 그대로 반환한다.
+     * 요청별 값을 덮어쓴 설정(PKCE 등)은 일회성이므로 캐시하지 않는다 (metadata는 복사 없이 공유).
+     */
+    public PluginConfig toSdkConfig(PluginConfigInfo info) {
+        if (info.pluginId() == null) {
+            return buildSdkConfig(info);
+        }
+        SdkConfigEntry cached = sdkConfigs.get(info.pluginId());
+        if (cached != null && cached.source() == info) {
+            return cached.config();
+        }
+
+        PluginConfig config = buildSdkConfig(info);
+        if (!(info.metadata() instanceof OverlayMap)) {
+            sdkConfigs.put(info.pluginId(), new SdkConfigEntry(info, config));
+        }
+        return config;
+    }
+
+    private PluginConfig buildSdkConfig(PluginConfigInfo info) {
         return PluginConfig.builder()
                 .pluginId(info.pluginId())
                 .clientId(info.clientId())
@@ -186,4 +288,21 @@ public class PluginRegistry implements PluginOAuthService {
                 .metadata(tokenInfo.metadata())
                 .build();
     }
+
+    /**
+     * 변환 원본 스냅샷 + 변환 결과
+     */
+    private record SdkConfigEntry(PluginConfigInfo source, PluginConfig config) {
+    }
+
+    /**
+     * pluginId(소문자) → 확장점 불변 인덱스
+     */
+    private record ExtensionIndex(
+            Map<String, OAuthHandler> oauthHandlers,
+            Map<String, PluginExecutor> executors,
+            Map<String, WebhookHandler> webhookHandlers
+    ) {
+        static final ExtensionIndex EMPTY = new ExtensionIndex(Map.of(), Map.of(), Map.of());
+    }
 }
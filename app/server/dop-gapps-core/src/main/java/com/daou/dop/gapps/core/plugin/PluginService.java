@@ -4,16 +4,21 @@ import com.daou.dop.gapps.core.dto.AuthConfigInfo;
 import com.daou.dop.gapps.core.dto.PluginConfigInfo;
 import com.daou.dop.gapps.core.dto.PluginInfo;
 import com.daou.dop.gapps.domain.enums.AuthType;
+import com.daou.dop.gapps.core.repository.ChangeVersionRepository;
 import com.daou.dop.gapps.core.repository.PluginRepository;
 import com.daou.dop.gapps.domain.enums.PluginStatus;
 import com.daou.dop.gapps.domain.plugin.Plugin;
+import jakarta.annotation.PostConstruct;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +27,11 @@ import java.util.Optional;
 /**
  * 플러그인 관리 서비스
  * Plugin Entity를 PluginConfigInfo DTO로 변환
+ *
+ * <p>플러그인 설정은 JSON 파싱까지 끝낸 불변 스냅샷으로 메모리에 보관하고(copy-on-write),
+ * {@link #getPluginConfig}는 DB 조회나 JSON 파싱 없이 스냅샷에서 바로 반환한다.
+ * plugin 테이블이 바뀌면 트리거가 change_version('plugin')을 올리고,
+ * 각 노드는 {@code plugin.config.refresh-interval}마다 버전을 비교해 바뀌었으면 전체를 다시 읽는다.
  */
 @Service
 @Transactional(readOnly = true)
@@ -29,32 +39,104 @@ public class PluginService {
 
     private static final Logger log = LoggerFactory.getLogger(PluginService.class);
 
+    static final String CHANGE_VERSION_NAME = "plugin";
+
     private final PluginRepository pluginRepository;
+    private final ChangeVersionRepository changeVersionRepository;
     private final ObjectMapper objectMapper;
 
-    public PluginService(PluginRepository pluginRepository, ObjectMapper objectMapper) {
+    private volatile Map<String, ConfigEntry> configs = Map.of();
+    private volatile long loadedVersion = -1;
+
+    public PluginService(
+            PluginRepository pluginRepository,
+            ChangeVersionRepository changeVersionRepository,
+            ObjectMapper objectMapper) {
         this.pluginRepository = pluginRepository;
+        this.changeVersionRepository = changeVersionRepository;
         this.objectMapper = objectMapper;
     }
 
+    @PostConstruct
+    public void initialize() {
+        reloadConfigs();
+    }
+
     /**
-     * pluginId로 PluginConfigInfo 조회
+     * pluginId로 PluginConfigInfo 조회 (스냅샷)
+     * 스냅샷에 없을 때만 DB를 조회한다 (다음 버전 확인 전에 추가된 플러그인).
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<PluginConfigInfo> getPluginConfig(String pluginId) {
+        ConfigEntry entry = configs.get(pluginId);
+        if (entry != null) {
+            return Optional.of(entry.config());
+        }
         return pluginRepository.findByPluginId(pluginId)
-                .map(this::toPluginConfigInfo);
+                .map(this::cache)
+                .map(ConfigEntry::config);
     }
 
     /**
-     * 활성 플러그인 설정 목록 조회
+     * 활성 플러그인 설정 목록 조회 (스냅샷)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<PluginConfigInfo> findAllActiveConfigs() {
-        return pluginRepository.findByStatus(PluginStatus.ACTIVE)
-                .stream()
-                .map(this::toPluginConfigInfo)
+        return configs.values().stream()
+                .filter(ConfigEntry::active)
+                .map(ConfigEntry::config)
                 .toList();
     }
 
+    // ========== 설정 스냅샷 ==========
+
+    /**
+     * 다른 노드(또는 직접 수정된 DB)의 변경 감지 시 재로드
+     */
+    @Scheduled(fixedDelayString = "${plugin.config.refresh-interval:10s}")
+    public void refreshConfigsIfChanged() {
+        try {
+            long version = currentVersion();
+            if (version != loadedVersion) {
+                log.debug("Plugin config version changed: {} -> {}", loadedVersion, version);
+                reloadConfigs();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check plugin config version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재로드
+     * 버전을 먼저 읽으므로 로드 도중 발생한 변경은 다음 주기에 다시 반영된다.
+     */
+    public synchronized void reloadConfigs() {
+        long version = currentVersion();
+        Map<String, ConfigEntry> loaded = new HashMap<>();
+        for (Plugin plugin : pluginRepository.findAll()) {
+            loaded.put(plugin.getPluginId(), toConfigEntry(plugin));
+        }
+        this.configs = Map.copyOf(loaded);
+        this.loadedVersion = version;
+        log.info("Plugin configs loaded: plugins={}, version={}", loaded.size(), version);
+    }
+
+    private synchronized ConfigEntry cache(Plugin plugin) {
+        ConfigEntry entry = toConfigEntry(plugin);
+        Map<String, ConfigEntry> updated = new HashMap<>(configs);
+        updated.put(plugin.getPluginId(), entry);
+        this.configs = Map.copyOf(updated);
+        return entry;
+    }
+
+    private long currentVersion() {
+        return changeVersionRepository.findVersionByName(CHANGE_VERSION_NAME).orElse(0L);
+    }
+
+    private ConfigEntry toConfigEntry(Plugin plugin) {
+        return new ConfigEntry(toPluginConfigInfo(plugin), plugin.getStatus() == PluginStatus.ACTIVE);
+    }
+
     /**
      * 활성 플러그인 목록 조회 (표시용)
      */
@@ -99,8 +181,9 @@ public class PluginService {
     }
 
     private PluginConfigInfo toPluginConfigInfo(Plugin plugin) {
-        Map<String, String> secrets = parseSecrets(plugin.getSecrets());
-        Map<String, Object> metadata = parseMetadata(plugin.getMetadata());
+        // 스냅샷으로 여러 요청이 공유하므로 읽기 전용으로 노출
+        Map<String, String> secrets = Collections.unmodifiableMap(parseSecrets(plugin.getSecrets()));
+        Map<String, Object> metadata = Collections.unmodifiableMap(parseMetadata(plugin.getMetadata()));
 
         return PluginConfigInfo.builder()
                 .pluginId(plugin.getPluginId())
@@ -135,4 +218,10 @@ public class PluginService {
             return new HashMap<>();
         }
     }
+
+    /**
+     * 파싱된 설정 + 활성 여부
+     */
+    private record ConfigEntry(PluginConfigInfo config, boolean active) {
+    }
 }
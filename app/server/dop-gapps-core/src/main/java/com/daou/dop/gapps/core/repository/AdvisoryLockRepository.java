@@ -0,0 +1,15 @@
+package com.daou.dop.gapps.core.repository;
+
+/**
+ * 노드 간 조정을 위한 DB 잠금 Port
+ */
+public interface AdvisoryLockRepository {
+
+    /**
+     * 트랜잭션 범위 잠금 획득 (다른 노드가 보유 중이면 해제될 때까지 대기)
+     * 커밋/롤백 시 자동 해제되므로 반드시 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param name 잠금 이름 (같은 이름끼리만 경합)
+     */
+    void lockForTransaction(String name);
+}
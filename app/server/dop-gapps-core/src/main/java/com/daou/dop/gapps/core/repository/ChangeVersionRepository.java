@@ -0,0 +1,23 @@
+package com.daou.dop.gapps.core.repository;
+
+import java.util.Optional;
+
+/**
+ * ChangeVersion Repository Port
+ */
+public interface ChangeVersionRepository {
+
+    /**
+     * 대상 변경 버전 조회
+     *
+     * @param name 대상 이름 (webhook_subscription 등)
+     */
+    Optional<Long> findVersionByName(String name);
+
+    /**
+     * 대상 변경 버전 조회 (행 잠금, 트랜잭션 종료 시까지 다른 변경이 버전을 올리지 못함)
+     *
+     * @param name 대상 이름 (webhook_subscription 등)
+     */
+    Optional<Long> lockVersionByName(String name);
+}
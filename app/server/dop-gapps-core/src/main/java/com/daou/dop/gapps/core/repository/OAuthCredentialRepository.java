@@ -1,7 +1,10 @@
 package com.daou.dop.gapps.core.repository;
 
+import com.daou.dop.gapps.core.dto.ExpiringCredential;
 import com.daou.dop.gapps.domain.credential.OAuthCredential;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +17,9 @@ public interface OAuthCredentialRepository {
     OAuthCredential save(OAuthCredential credential);
 
     void deleteByConnectionId(Long connectionId);
+
+    /**
+     * 갱신 가능한 만료 임박 토큰 조회 (활성 연동, refresh token 보유, 만료 시간 오름차순)
+     */
+    List<ExpiringCredential> findRefreshableExpiringBefore(Instant threshold, int limit);
 }
@@ -1,8 +1,11 @@
 package com.daou.dop.gapps.core.repository;
 
+import com.daou.dop.gapps.core.dto.ConnectionCredentialStatus;
+import com.daou.dop.gapps.core.dto.ConnectionWithCredential;
 import com.daou.dop.gapps.domain.connection.PluginConnection;
 import com.daou.dop.gapps.domain.enums.ConnectionStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,23 @@ public interface PluginConnectionRepository {
 
     List<PluginConnection> findByStatus(ConnectionStatus status);
 
+    /**
+     * 연동과 OAuth 인증 정보를 한 번에 조회 (인증 정보가 없으면 empty)
+     */
+    Optional<ConnectionWithCredential> findWithCredentialByPluginIdAndExternalId(String pluginId, String externalId);
+
+    /**
+     * 여러 연동과 OAuth 인증 정보를 한 번에 조회 (IN 조회, 인증 정보가 없는 연동은 제외)
+     * 바인드 파라미터 수 제한이 있으므로 호출 측에서 적당한 크기로 나눠 호출할 것
+     */
+    List<ConnectionWithCredential> findWithCredentialByPluginIdAndExternalIdIn(
+            String pluginId, Collection<String> externalIds);
+
+    /**
+     * 플러그인별 연동 인증 상태 목록 (인증 정보 유무와 관계없이 한 번의 조회)
+     */
+    List<ConnectionCredentialStatus> findCredentialStatusesByPluginIdAndStatus(String pluginId, ConnectionStatus status);
+
     PluginConnection save(PluginConnection connection);
 
     void deleteById(Long id);
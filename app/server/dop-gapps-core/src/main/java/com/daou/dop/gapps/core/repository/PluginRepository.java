@@ -15,6 +15,8 @@ public interface PluginRepository {
 
     List<Plugin> findByStatus(PluginStatus status);
 
+    List<Plugin> findAll();
+
     Plugin save(Plugin plugin);
 
     boolean existsByPluginId(String pluginId);
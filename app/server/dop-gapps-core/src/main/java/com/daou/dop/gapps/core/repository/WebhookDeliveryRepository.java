@@ -0,0 +1,38 @@
+package com.daou.dop.gapps.core.repository;
+
+import com.daou.dop.gapps.domain.webhook.WebhookDelivery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WebhookDelivery Repository Port
+ */
+public interface WebhookDeliveryRepository {
+
+    Optional<WebhookDelivery> findById(Long id);
+
+    WebhookDelivery save(WebhookDelivery delivery);
+
+    /**
+     * 재전송 대상 행 점유 조회 (트랜잭션 내에서 호출)
+     * 재시도 시간이 도래한 PENDING_RETRY 행과 lease가 만료된 IN_FLIGHT 행을 행 잠금으로 가져오며,
+     * 다른 노드가 잠근 행은 건너뛴다.
+     *
+     * @param now         기준 시간
+     * @param staleBefore 이 시간 이전에 점유된 IN_FLIGHT 행은 재점유 대상
+     * @param limit       최대 건수
+     */
+    List<WebhookDelivery> lockDue(Instant now, Instant staleBefore, int limit);
+
+    /**
+     * 보존 기간이 지난 완료 건 삭제
+     *
+     * @param succeededBefore 이 시간 이전에 완료된 SUCCEEDED 행 삭제
+     * @param deadBefore      이 시간 이전에 dead-letter로 전환된 DEAD 행 삭제
+     * @param limit           한 번에 삭제할 최대 건수
+     * @return 삭제 건수
+     */
+    int deleteFinishedBefore(Instant succeededBefore, Instant deadBefore, int limit);
+}
@@ -0,0 +1,42 @@
+package com.daou.dop.gapps.core.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * webhook_event_log 파티션 관리 Port
+ */
+public interface WebhookEventLogPartitionRepository {
+
+    /**
+     * 일 단위 파티션 생성 (이미 있으면 무시)
+     * 노드 간 동시 호출은 DB 잠금으로 직렬화되며, 기본 파티션에 있던 해당 일 행은 새 파티션으로 옮겨진다.
+     *
+     * @param day 파티션 날짜 (UTC)
+     * @return 파티션 테이블 이름
+     */
+    String createDailyPartition(LocalDate day);
+
+    /**
+     * 일 단위 파티션 목록 (기본 파티션 제외)
+     */
+    List<String> findDailyPartitionNames();
+
+    /**
+     * 파티션 분리 후 삭제
+     * 부모 테이블 잠금을 짧은 시간 안에 얻지 못하면 아무것도 하지 않는다.
+     *
+     * @return 삭제했으면 true, 잠금 대기 시간 초과로 건너뛰었으면 false
+     */
+    boolean dropPartition(String partitionName);
+
+    /**
+     * 기본 파티션(webhook_event_log_default)에 들어간 행 수 (정상 운영 시 0)
+     */
+    long countDefaultPartitionRows();
+
+    /**
+     * 기본 파티션에 행이 있는 날짜 목록 (UTC)
+     */
+    List<LocalDate> findDefaultPartitionDays();
+}
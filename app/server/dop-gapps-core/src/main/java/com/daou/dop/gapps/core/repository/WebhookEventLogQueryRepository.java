@@ -0,0 +1,28 @@
+package com.daou.dop.gapps.core.repository;
+
+import com.daou.dop.gapps.core.dto.WebhookEventLogCursor;
+import com.daou.dop.gapps.core.dto.WebhookEventLogExportRow;
+import com.daou.dop.gapps.core.dto.WebhookEventLogFilter;
+import com.daou.dop.gapps.core.dto.WebhookEventLogSummary;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 웹훅 이벤트 로그 조회 Repository (조건 조합/스트리밍 조회)
+ */
+public interface WebhookEventLogQueryRepository {
+
+    /**
+     * keyset 페이지 조회 (createdAt, id 내림차순)
+     *
+     * @param after 이전 페이지 마지막 행 (첫 페이지면 null)
+     */
+    List<WebhookEventLogSummary> findPage(WebhookEventLogFilter filter, WebhookEventLogCursor after, int limit);
+
+    /**
+     * 조건에 맞는 로그를 createdAt, id 오름차순으로 한 행씩 전달
+     * 결과를 메모리에 모으지 않으며, 커서 기반 fetch를 위해 트랜잭션 안에서 호출해야 한다.
+     */
+    void stream(WebhookEventLogFilter filter, boolean includePayload, Consumer<WebhookEventLogExportRow> consumer);
+}
@@ -24,21 +24,18 @@ public interface WebhookEventLogRepository {
 
     List<WebhookEventLog> findByPluginIdAndCreatedAtBetween(String pluginId, Instant start, Instant end);
 
+    WebhookEventLog save(WebhookEventLog eventLog);
+
     /**
-     * 최신 로그 조회 (페이징)
+     * 일괄 저장 (JDBC 배치 INSERT)
      */
-    List<WebhookEventLog> findRecentByPluginId(String pluginId, int limit);
-
-    List<WebhookEventLog> findRecentByConnectionId(Long connectionId, int limit);
-
-    List<WebhookEventLog> findRecentByPluginIdAndConnectionId(String pluginId, Long connectionId, int limit);
-
-    WebhookEventLog save(WebhookEventLog eventLog);
+    <S extends WebhookEventLog> List<S> saveAll(Iterable<S> eventLogs);
 
     void deleteById(Long id);
 
     /**
      * 오래된 로그 삭제 (배치용)
+     * 파티션 테이블에서는 {@code WebhookEventLogPartitionManager}의 파티션 DROP으로 보존 기간을 관리한다.
      *
      * @param before 이 시간 이전 로그 삭제
      * @return 삭제된 건수
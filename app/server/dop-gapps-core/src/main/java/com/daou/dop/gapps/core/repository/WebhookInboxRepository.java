@@ -0,0 +1,37 @@
+package com.daou.dop.gapps.core.repository;
+
+import com.daou.dop.gapps.domain.enums.WebhookInboxStatus;
+import com.daou.dop.gapps.domain.webhook.WebhookInbox;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WebhookInbox Repository Port
+ */
+public interface WebhookInboxRepository {
+
+    Optional<WebhookInbox> findById(Long id);
+
+    WebhookInbox save(WebhookInbox inbox);
+
+    void deleteById(Long id);
+
+    /**
+     * 처리 대상 행 점유 조회 (트랜잭션 내에서 호출)
+     * PENDING 행과 lease가 만료된 PROCESSING 행을 행 잠금으로 가져오며,
+     * 다른 워커가 잠근 행은 건너뛴다.
+     *
+     * @param staleBefore 이 시간 이전에 점유된 PROCESSING 행은 재점유 대상
+     * @param limit       최대 건수
+     */
+    List<WebhookInbox> lockProcessable(Instant staleBefore, int limit);
+
+    long countByStatus(WebhookInboxStatus status);
+
+    /**
+     * 상태별 가장 오래된 수신 시간 (큐 지연 측정용)
+     */
+    Optional<Instant> findOldestReceivedAt(WebhookInboxStatus status);
+}
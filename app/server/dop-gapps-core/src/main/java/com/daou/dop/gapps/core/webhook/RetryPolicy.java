@@ -0,0 +1,53 @@
+package com.daou.dop.gapps.core.webhook;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 웹훅 재전송 정책 (지수 백오프 + jitter)
+ *
+ * <p>{@code WebhookSubscription.retryPolicy} JSON 형식
+ * <pre>
+ * {"maxAttempts": 5, "initialDelayMs": 10000, "multiplier": 2.0, "maxDelayMs": 600000, "jitter": 0.2}
+ * </pre>
+ * 누락된 항목은 기본 정책 값을 사용한다.
+ *
+ * @param maxAttempts  최대 전송 횟수 (최초 디스패치 포함, 1이면 재시도 없음)
+ * @param initialDelay 첫 재시도 지연
+ * @param multiplier   재시도마다 지연 배수
+ * @param maxDelay     지연 상한
+ * @param jitter       지연에서 무작위로 뺄 비율 (0.0 ~ 1.0)
+ */
+public record RetryPolicy(
+        int maxAttempts,
+        Duration initialDelay,
+        double multiplier,
+        Duration maxDelay,
+        double jitter
+) {
+
+    public static final RetryPolicy DEFAULT = new RetryPolicy(
+            5, Duration.ofSeconds(10), 2.0, Duration.ofMinutes(10), 0.2);
+
+    public RetryPolicy {
+        maxAttempts = Math.max(1, maxAttempts);
+        multiplier = Math.max(1.0, multiplier);
+        jitter = Math.clamp(jitter, 0.0, 1.0);
+    }
+
+    public boolean isExhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    /**
+     * 다음 재시도까지 지연
+     *
+     * @param attempts 지금까지 실패한 전송 횟수 (1부터)
+     */
+    public Duration delayAfter(int attempts) {
+        double base = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, attempts - 1));
+        double capped = Math.min(base, maxDelay.toMillis());
+        double jittered = capped - capped * jitter * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) jittered);
+    }
+}
@@ -0,0 +1,183 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.WebhookDeliveryRepository;
+import com.daou.dop.gapps.core.repository.WebhookSubscriptionRepository;
+import com.daou.dop.gapps.domain.webhook.WebhookDelivery;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 웹훅 재전송 관리 서비스
+ *
+ * <p>디스패치 실패 건을 webhook_delivery에 기록하고, 구독별 재시도 정책에 따라
+ * 다음 재전송 시점 또는 dead-letter 여부를 결정한다.
+ * 실제 재전송은 인프라 계층 스케줄러가 {@link #claimDue(int)}로 점유한 뒤 수행한다.
+ *
+ * <p>구독이 삭제되어도 이력은 남고(subscription_id = NULL), 완료 건(SUCCEEDED/DEAD)은
+ * 상태별 보존 기간이 지나면 {@link #purgeFinished()}가 배치로 삭제한다.
+ */
+@Service
+public class WebhookDeliveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryService.class);
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration leaseTimeout;
+    private final Duration succeededRetention;
+    private final Duration deadRetention;
+    private final int purgeBatchSize;
+
+    public WebhookDeliveryService(
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookSubscriptionRepository subscriptionRepository,
+            ObjectMapper objectMapper,
+            @Value("${webhook.retry.lease-timeout:5m}") Duration leaseTimeout,
+            @Value("${webhook.delivery.retention.succeeded:7d}") Duration succeededRetention,
+            @Value("${webhook.delivery.retention.dead:30d}") Duration deadRetention,
+            @Value("${webhook.delivery.purge-batch-size:1000}") int purgeBatchSize) {
+        this.deliveryRepository = deliveryRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.objectMapper = objectMapper;
+        this.leaseTimeout = leaseTimeout;
+        this.succeededRetention = succeededRetention;
+        this.deadRetention = deadRetention;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * 최초 디스패치 실패 기록
+     * 재시도가 남아 있으면 다음 시점을 예약하고, 없으면 바로 dead-letter로 남긴다.
+     */
+    @Transactional
+    public WebhookDelivery recordInitialFailure(
+            WebhookSubscription subscription, String eventType, String payload, String error) {
+
+        WebhookDelivery delivery = WebhookDelivery.builder()
+                .subscriptionId(subscription.getId())
+                .pluginId(subscription.getPluginId())
+                .eventType(eventType)
+                .payload(payload)
+                .lastError(error)
+                .build();
+
+        applyPolicy(delivery, parsePolicy(subscription.getRetryPolicy()), error);
+        return deliveryRepository.save(delivery);
+    }
+
+    /**
+     * 재전송 대상 점유
+     * 행 잠금 상태에서 IN_FLIGHT로 전환 후 커밋하므로 다른 노드와 중복되지 않는다.
+     */
+    @Transactional
+    public List<WebhookDelivery> claimDue(int limit) {
+        Instant now = Instant.now();
+        List<WebhookDelivery> deliveries = deliveryRepository.lockDue(now, now.minus(leaseTimeout), limit);
+        deliveries.forEach(WebhookDelivery::markInFlight);
+        return deliveries;
+    }
+
+    @Transactional
+    public void markSucceeded(Long deliveryId) {
+        deliveryRepository.findById(deliveryId).ifPresent(delivery -> {
+            delivery.markSucceeded();
+            deliveryRepository.save(delivery);
+            log.info("Webhook redelivery succeeded: deliveryId={}, subscriptionId={}, attempts={}",
+                    deliveryId, delivery.getSubscriptionId(), delivery.getAttempts());
+        });
+    }
+
+    /**
+     * 재전송 실패 기록 - 구독의 현재 정책으로 다음 시점 또는 dead-letter 결정
+     */
+    @Transactional
+    public void markFailed(Long deliveryId, String error) {
+        deliveryRepository.findById(deliveryId).ifPresent(delivery -> {
+            RetryPolicy policy = Optional.ofNullable(delivery.getSubscriptionId())
+                    .flatMap(subscriptionRepository::findById)
+                    .map(subscription -> parsePolicy(subscription.getRetryPolicy()))
+                    .orElse(RetryPolicy.DEFAULT);
+            applyPolicy(delivery, policy, error);
+            deliveryRepository.save(delivery);
+        });
+    }
+
+    @Transactional
+    public void markDead(Long deliveryId, String error) {
+        deliveryRepository.findById(deliveryId).ifPresent(delivery -> {
+            delivery.markDead(error);
+            deliveryRepository.save(delivery);
+            log.warn("Webhook delivery moved to dead-letter: deliveryId={}, reason={}", deliveryId, error);
+        });
+    }
+
+    /**
+     * 보존 기간이 지난 완료 건 삭제 (배치 단위로 나눠 긴 잠금 방지)
+     */
+    @Scheduled(fixedDelayString = "${webhook.delivery.purge-interval:1h}")
+    public void purgeFinished() {
+        try {
+            Instant now = Instant.now();
+            Instant succeededBefore = now.minus(succeededRetention);
+            Instant deadBefore = now.minus(deadRetention);
+            int total = 0;
+            int deleted;
+            do {
+                deleted = deliveryRepository.deleteFinishedBefore(succeededBefore, deadBefore, purgeBatchSize);
+                total += deleted;
+            } while (deleted >= purgeBatchSize);
+
+            if (total > 0) {
+                log.info("Purged {} finished webhook deliveries", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge finished webhook deliveries", e);
+        }
+    }
+
+    private void applyPolicy(WebhookDelivery delivery, RetryPolicy policy, String error) {
+        if (policy.isExhausted(delivery.getAttempts())) {
+            delivery.markDead(error);
+            log.warn("Webhook delivery exhausted retries: subscriptionId={}, attempts={}, error={}",
+                    delivery.getSubscriptionId(), delivery.getAttempts(), error);
+            return;
+        }
+        delivery.recordFailure(error);
+        delivery.scheduleRetry(Instant.now().plus(policy.delayAfter(delivery.getAttempts())));
+    }
+
+    /**
+     * 구독의 retryPolicy JSON 파싱 (누락/오류 시 기본 정책)
+     */
+    RetryPolicy parsePolicy(String retryPolicyJson) {
+        if (retryPolicyJson == null || retryPolicyJson.isBlank()) {
+            return RetryPolicy.DEFAULT;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(retryPolicyJson);
+            RetryPolicy defaults = RetryPolicy.DEFAULT;
+            return new RetryPolicy(
+                    node.path("maxAttempts").asInt(defaults.maxAttempts()),
+                    Duration.ofMillis(node.path("initialDelayMs").asLong(defaults.initialDelay().toMillis())),
+                    node.path("multiplier").asDouble(defaults.multiplier()),
+                    Duration.ofMillis(node.path("maxDelayMs").asLong(defaults.maxDelay().toMillis())),
+                    node.path("jitter").asDouble(defaults.jitter()));
+        } catch (Exception e) {
+            log.warn("Failed to parse retry policy JSON, using defaults: {}", e.getMessage());
+            return RetryPolicy.DEFAULT;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.WebhookEventLogPartitionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * webhook_event_log 파티션 관리자
+ *
+ * <p>주기적으로 향후 {@code premake-days}일치 파티션을 미리 만들고,
+ * 보존 기간({@code retention})이 지난 일 단위 파티션은 DETACH 후 DROP 한다.
+ * 부모 테이블 잠금은 {@code drop-lock-timeout} 안에 얻지 못하면 포기하므로 웹훅 로그 적재를 오래 막지 않는다.
+ * 행 단위 DELETE가 없으므로 테이블 bloat나 autovacuum 부하가 생기지 않는다.
+ * 모든 작업은 멱등이며, 파티션 생성은 DB 잠금으로 직렬화되므로 여러 노드에서 동시에 실행되어도 안전하다.
+ *
+ * <p>파티션이 없는 시간대의 행은 기본 파티션에 쌓인다. 매 주기 기본 파티션을 확인하여
+ * 해당 날짜 파티션을 만들어 행을 옮기고(sweep), 남은 건수를 {@code webhook.event_log.default_partition.rows}
+ * 게이지로 노출한다 (0이 아니면 경고 로그).
+ */
+@Component
+public class WebhookEventLogPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookEventLogPartitionManager.class);
+
+    private static final String PARTITION_PREFIX = "webhook_event_log_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final WebhookEventLogPartitionRepository partitionRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int premakeDays;
+    private final Duration retention;
+
+    private final AtomicLong defaultPartitionRows = new AtomicLong();
+
+    public WebhookEventLogPartitionManager(
+            WebhookEventLogPartitionRepository partitionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${webhook.event-log.partition.enabled:true}") boolean enabled,
+            @Value("${webhook.event-log.partition.premake-days:7}") int premakeDays,
+            @Value("${webhook.event-log.retention:30d}") Duration retention) {
+        this.partitionRepository = partitionRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.premakeDays = premakeDays;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("webhook.event_log.default_partition.rows", defaultPartitionRows, AtomicLong::get)
+                .description("Webhook event log rows outside daily partitions")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${webhook.event-log.partition.initial-delay:30s}",
+            fixedDelayString = "${webhook.event-log.partition.check-interval:1h}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            createFuturePartitions(today);
+            sweepDefaultPartition();
+            dropExpiredPartitions(today);
+        } catch (Exception e) {
+            log.error("Webhook event log partition maintenance failed", e);
+        }
+    }
+
+    private void createFuturePartitions(LocalDate today) {
+        for (int i = 0; i <= premakeDays; i++) {
+            partitionRepository.createDailyPartition(today.plusDays(i));
+        }
+    }
+
+    /**
+     * 기본 파티션에 쌓인 행을 날짜별 파티션으로 이동
+     */
+    private void sweepDefaultPartition() {
+        List<LocalDate> days = partitionRepository.findDefaultPartitionDays();
+        for (LocalDate day : days) {
+            partitionRepository.createDailyPartition(day);
+            log.warn("Moved webhook event log rows from default partition: day={}", day);
+        }
+
+        long remaining = partitionRepository.countDefaultPartitionRows();
+        defaultPartitionRows.set(remaining);
+        if (remaining > 0) {
+            log.warn("Webhook event log default partition still has {} rows", remaining);
+        }
+    }
+
+    /**
+     * 파티션 날짜가 보존 기준일 이전이면 삭제 (해당 일의 모든 행이 보존 기간을 지난 경우)
+     */
+    private void dropExpiredPartitions(LocalDate today) {
+        LocalDate cutoff = today.minusDays(retention.toDays());
+        for (String name : partitionRepository.findDailyPartitionNames()) {
+            LocalDate day = parseDay(name);
+            if (day != null && day.isBefore(cutoff)) {
+                if (partitionRepository.dropPartition(name)) {
+                    log.info("Dropped expired webhook event log partition: {}", name);
+                } else {
+                    log.warn("Webhook event log partition busy, retrying next cycle: {}", name);
+                }
+            }
+        }
+    }
+
+    private LocalDate parseDay(String partitionName) {
+        try {
+            return LocalDate.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            log.warn("Unexpected partition name: {}", partitionName);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.dto.WebhookEventLogCursor;
+import com.daou.dop.gapps.core.dto.WebhookEventLogFilter;
+import com.daou.dop.gapps.core.dto.WebhookEventLogPage;
+import com.daou.dop.gapps.core.dto.WebhookEventLogSummary;
+import com.daou.dop.gapps.core.repository.WebhookEventLogQueryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹훅 이벤트 로그 조회 서비스
+ *
+ * <p>목록은 (createdAt, id) keyset 커서로 페이지를 나누고, 페이지 크기는
+ * {@code webhook.event-log.max-page-size}로 제한한다.
+ * 내보내기는 DB 커서로 읽은 행을 바로 NDJSON으로 기록하므로 조회 범위와 무관하게 메모리 사용이 일정하다.
+ */
+@Service
+public class WebhookEventLogQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookEventLogQueryService.class);
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final WebhookEventLogQueryRepository queryRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxPageSize;
+
+    public WebhookEventLogQueryService(
+            WebhookEventLogQueryRepository queryRepository,
+            ObjectMapper objectMapper,
+            @Value("${webhook.event-log.max-page-size:200}") int maxPageSize) {
+        this.queryRepository = queryRepository;
+        this.objectMapper = objectMapper;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 페이지 조회 (createdAt, id 내림차순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    @Transactional(readOnly = true)
+    public WebhookEventLogPage findPage(WebhookEventLogFilter filter, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, maxPageSize);
+        WebhookEventLogCursor after = cursor != null && !cursor.isBlank()
+                ? WebhookEventLogCursor.decode(cursor)
+                : null;
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<WebhookEventLogSummary> rows = queryRepository.findPage(filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new WebhookEventLogPage(rows, null);
+        }
+
+        List<WebhookEventLogSummary> items = rows.subList(0, pageSize);
+        String nextCursor = WebhookEventLogCursor.of(items.getLast()).encode();
+        return new WebhookEventLogPage(List.copyOf(items), nextCursor);
+    }
+
+    /**
+     * NDJSON 내보내기 (createdAt, id 오름차순, 한 줄에 로그 하나)
+     * 읽기 전용 트랜잭션 안에서 DB 커서를 유지한 채 출력 스트림에 바로 기록한다.
+     *
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(WebhookEventLogFilter filter, boolean includePayload, OutputStream out) {
+        AtomicLong count = new AtomicLong();
+        queryRepository.stream(filter, includePayload, row -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write(NEWLINE);
+                count.incrementAndGet();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 - 커서 조회 중단
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Webhook event logs exported: plugin={}, from={}, to={}, rows={}",
+                filter.pluginId(), filter.from(), filter.to(), count.get());
+        return count.get();
+    }
+}
@@ -0,0 +1,195 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.WebhookEventLogRepository;
+import com.daou.dop.gapps.domain.webhook.WebhookEventLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹훅 이벤트 로그 배치 저장기
+ *
+ * <p>처리가 끝난 로그를 최종 상태로 한 번만 받아 버퍼에 쌓고,
+ * 배치 크기({@code batch-size})가 차거나 시간 창({@code flush-interval})이 지나면 일괄 INSERT 한다.
+ * 버퍼가 가득 차면 {@code offer-timeout}만큼 대기한 뒤 호출 스레드에서 직접 저장하여
+ * 로그를 버리지 않고 호출 측 속도를 늦춘다(backpressure).
+ * 배치 INSERT가 실패하면 행 단위로 다시 저장해 문제 행만 버리고, 버린 건수는 webhook.event_log.dropped로 집계한다.
+ *
+ * <p>{@code webhook.event-log.async=false}이면 호출 스레드(트랜잭션)에서 즉시 저장한다.
+ */
+@Component
+public class WebhookEventLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookEventLogWriter.class);
+
+    private final WebhookEventLogRepository eventLogRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean async;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+
+    private BlockingQueue<WebhookEventLog> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+    private Counter fallbackCounter;
+    private Counter droppedCounter;
+
+    public WebhookEventLogWriter(
+            WebhookEventLogRepository eventLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${webhook.event-log.async:true}") boolean async,
+            @Value("${webhook.event-log.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${webhook.event-log.batch-size:50}") int batchSize,
+            @Value("${webhook.event-log.flush-interval:200ms}") Duration flushInterval,
+            @Value("${webhook.event-log.offer-timeout:50ms}") Duration offerTimeout) {
+        this.eventLogRepository = eventLogRepository;
+        this.meterRegistry = meterRegistry;
+        this.async = async;
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        fallbackCounter = meterRegistry.counter("webhook.event_log.sync_fallback");
+        droppedCounter = meterRegistry.counter("webhook.event_log.dropped");
+        Gauge.builder("webhook.event_log.buffer", buffer, BlockingQueue::size)
+                .description("Buffered webhook event logs waiting for batch insert")
+                .register(meterRegistry);
+
+        running = true;
+        flusher = Thread.ofVirtual().name("webhook-event-log-writer").start(this::flushLoop);
+        log.info("Webhook event log writer started: capacity={}, batchSize={}, flushInterval={}",
+                bufferCapacity, batchSize, flushInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(Duration.ofSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시 남은 로그 저장
+        List<WebhookEventLog> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * 로그 저장 요청 (최종 상태로 한 번만 호출)
+     */
+    public void write(WebhookEventLog eventLog) {
+        if (!running) {
+            eventLogRepository.save(eventLog);
+            return;
+        }
+
+        try {
+            if (buffer.offer(eventLog, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 버퍼 포화: 호출 스레드에서 직접 저장
+        fallbackCounter.increment();
+        log.debug("Webhook event log buffer full, writing synchronously");
+        eventLogRepository.save(eventLog);
+    }
+
+    private void flushLoop() {
+        List<WebhookEventLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                WebhookEventLog first = buffer.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 로그 이후 시간 창 안에서 배치 크기까지 수집
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    WebhookEventLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private void flush(List<WebhookEventLog> batch) {
+        try {
+            eventLogRepository.saveAll(batch);
+        } catch (Exception e) {
+            log.warn("Webhook event log batch insert failed, retrying {} rows individually: {}",
+                    batch.size(), e.getMessage());
+            saveIndividually(batch);
+        }
+    }
+
+    /**
+     * 배치 실패 시 행 단위 재저장 (문제 행만 버림)
+     * 롤백된 배치에서 할당된 ID는 제거하고 새 ID로 INSERT한다.
+     */
+    private void saveIndividually(List<WebhookEventLog> batch) {
+        for (WebhookEventLog eventLog : batch) {
+            eventLog.resetId();
+            try {
+                eventLogRepository.save(eventLog);
+            } catch (Exception e) {
+                droppedCounter.increment();
+                log.error("Webhook event log dropped: plugin={}, eventType={}, externalId={}",
+                        eventLog.getPluginId(), eventLog.getEventType(), eventLog.getExternalId(), e);
+            }
+        }
+    }
+}
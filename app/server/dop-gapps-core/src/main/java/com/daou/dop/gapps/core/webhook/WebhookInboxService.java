@@ -0,0 +1,210 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.WebhookInboxRepository;
+import com.daou.dop.gapps.domain.enums.WebhookInboxStatus;
+import com.daou.dop.gapps.domain.webhook.WebhookInbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 웹훅 수신함 서비스
+ *
+ * <p>비동기 수신 모드에서 원본 웹훅을 적재하고, 워커에게 점유/완료/실패 처리를 제공한다.
+ * 적재 후에는 커밋 시점에 대기 중인 워커를 깨워 폴링 주기만큼 지연되지 않도록 한다.
+ */
+@Service
+public class WebhookInboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookInboxService.class);
+
+    private final WebhookInboxRepository inboxRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxAttempts;
+    private final Duration leaseTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition workAvailable = signalLock.newCondition();
+    private boolean signaled;
+
+    public WebhookInboxService(
+            WebhookInboxRepository inboxRepository,
+            ObjectMapper objectMapper,
+            @Value("${webhook.ingestion.max-attempts:3}") int maxAttempts,
+            @Value("${webhook.ingestion.lease-timeout:5m}") Duration leaseTimeout,
+            @Value("${webhook.ingestion.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${webhook.ingestion.max-retry-backoff:5m}") Duration maxRetryBackoff) {
+        this.inboxRepository = inboxRepository;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.leaseTimeout = leaseTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * 수신함 적재
+     * 호출 측 트랜잭션에 참여하며, 커밋 이후 워커에 신호를 보낸다.
+     */
+    @Transactional
+    public WebhookInbox enqueue(String pluginId, Long connectionId, String rawPayload, Map<String, String> headers) {
+        WebhookInbox inbox = inboxRepository.save(WebhookInbox.builder()
+                .pluginId(pluginId)
+                .connectionId(connectionId)
+                .payload(rawPayload)
+                .headers(writeHeaders(headers))
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signal();
+                }
+            });
+        } else {
+            signal();
+        }
+        return inbox;
+    }
+
+    /**
+     * 처리 대상 점유
+     * 행 잠금 상태에서 PROCESSING으로 전환 후 커밋하므로 다른 워커와 중복되지 않는다.
+     * lease 만료로 재점유된 항목이 이미 시도 횟수를 소진했으면(처리 중 노드 종료가 반복되는 항목) FAILED로 보관한다.
+     */
+    @Transactional
+    public List<WebhookInbox> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<WebhookInbox> entries = inboxRepository.lockProcessable(Instant.now().minus(leaseTimeout), limit);
+        List<WebhookInbox> claimed = new ArrayList<>(entries.size());
+        for (WebhookInbox inbox : entries) {
+            if (inbox.getAttempts() >= maxAttempts) {
+                inbox.markFailed("Lease expired after " + inbox.getAttempts() + " attempts");
+                log.warn("Webhook inbox entry failed permanently after lease expiry: id={}, plugin={}, attempts={}",
+                        inbox.getId(), inbox.getPluginId(), inbox.getAttempts());
+                continue;
+            }
+            inbox.markProcessing();
+            claimed.add(inbox);
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리 완료 - 수신함에서 제거 (처리 이력은 webhook_event_log에 남는다)
+     */
+    @Transactional
+    public void complete(Long inboxId) {
+        inboxRepository.deleteById(inboxId);
+    }
+
+    /**
+     * 처리 실패 - 시도 횟수가 남아 있으면 재대기, 아니면 FAILED로 보관
+     * 재대기 항목은 {@code retry-backoff}부터 두 배씩 늘려 최대 {@code max-retry-backoff}만큼 점유를 미룬다.
+     */
+    @Transactional
+    public void fail(Long inboxId, String errorMessage) {
+        inboxRepository.findById(inboxId).ifPresent(inbox -> {
+            if (inbox.getAttempts() >= maxAttempts) {
+                inbox.markFailed(errorMessage);
+                log.warn("Webhook inbox entry failed permanently: id={}, plugin={}, attempts={}",
+                        inboxId, inbox.getPluginId(), inbox.getAttempts());
+            } else {
+                Duration delay = retryBackoff.multipliedBy(1L << Math.min(inbox.getAttempts() - 1, 20));
+                if (delay.compareTo(maxRetryBackoff) > 0) {
+                    delay = maxRetryBackoff;
+                }
+                inbox.releaseForRetry(errorMessage, Instant.now().plus(delay));
+            }
+            inboxRepository.save(inbox);
+        });
+    }
+
+    public Map<String, String> readHeaders(WebhookInbox inbox) {
+        if (inbox.getHeaders() == null || inbox.getHeaders().isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(inbox.getHeaders(), new TypeReference<>() {});
+        } catch (Exception e) {
+            log.warn("Failed to parse inbox headers JSON: id={}, {}", inbox.getId(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    // ========== 큐 상태 ==========
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return inboxRepository.countByStatus(WebhookInboxStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOldestPendingReceivedAt() {
+        return inboxRepository.findOldestReceivedAt(WebhookInboxStatus.PENDING);
+    }
+
+    // ========== 워커 신호 ==========
+
+    /**
+     * 새 항목 적재 신호 대기
+     *
+     * @return 신호를 받았으면 true, 타임아웃이면 false
+     */
+    public boolean awaitWork(Duration timeout) throws InterruptedException {
+        signalLock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (!signaled && nanos > 0) {
+                nanos = workAvailable.awaitNanos(nanos);
+            }
+            boolean result = signaled;
+            signaled = false;
+            return result;
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private void signal() {
+        signalLock.lock();
+        try {
+            signaled = true;
+            workAvailable.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private String writeHeaders(Map<String, String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (Exception e) {
+            log.warn("Failed to serialize webhook headers: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.domain.webhook.WebhookInbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹훅 수신함 워커 (async 수신 모드 전용)
+ *
+ * <p>폴러 스레드 하나가 수신함을 배치로 점유하고, 항목별 처리는 Virtual Thread에서 수행한다.
+ * 동시 처리 수는 {@code webhook.ingestion.worker-concurrency}로 제한하며,
+ * 빈 슬롯 수만큼만 점유하므로 점유된 행이 실행 대기 상태로 lease를 소모하지 않는다.
+ *
+ * <p>메트릭
+ * <ul>
+ *   <li>webhook.inbox.depth: PENDING 건수</li>
+ *   <li>webhook.inbox.oldest.age: 가장 오래된 PENDING 항목의 대기 시간(초)</li>
+ *   <li>webhook.inbox.lag: 수신 → 처리 시작 지연</li>
+ *   <li>webhook.inbox.processed / webhook.inbox.failed: 처리 결과 건수</li>
+ * </ul>
+ * 게이지는 스크레이프마다 DB를 조회하지 않도록 {@code stats-interval}마다 갱신한 값을 노출한다.
+ * 폴러가 슬롯 대기 중이어도(모든 슬롯 사용 중) 갱신되도록 폴링 루프와 분리한다.
+ */
+@Component
+public class WebhookInboxWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookInboxWorker.class);
+
+    private final WebhookInboxService inboxService;
+    private final WebhookService webhookService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int concurrency;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private Timer lagTimer;
+    private Counter processedCounter;
+    private Counter failedCounter;
+
+    private Semaphore slots;
+    private ExecutorService executor;
+    private Thread poller;
+    private volatile boolean running;
+
+    public WebhookInboxWorker(
+            WebhookInboxService inboxService,
+            WebhookService webhookService,
+            MeterRegistry meterRegistry,
+            @Value("${webhook.ingestion.mode:sync}") String ingestionMode,
+            @Value("${webhook.ingestion.worker-concurrency:32}") int concurrency,
+            @Value("${webhook.ingestion.batch-size:50}") int batchSize,
+            @Value("${webhook.ingestion.poll-interval:1s}") Duration pollInterval) {
+        this.inboxService = inboxService;
+        this.webhookService = webhookService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = "async".equalsIgnoreCase(ingestionMode);
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Webhook ingestion mode is sync, inbox worker disabled");
+            return;
+        }
+
+        Gauge.builder("webhook.inbox.depth", depth, AtomicLong::get)
+                .description("Pending webhook inbox entries")
+                .register(meterRegistry);
+        Gauge.builder("webhook.inbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest pending webhook inbox entry")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("webhook.inbox.lag")
+                .description("Delay between webhook receipt and processing start")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        processedCounter = meterRegistry.counter("webhook.inbox.processed");
+        failedCounter = meterRegistry.counter("webhook.inbox.failed");
+
+        slots = new Semaphore(concurrency);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        running = true;
+        poller = Thread.ofVirtual().name("webhook-inbox-poller").start(this::pollLoop);
+
+        log.info("Webhook inbox worker started: concurrency={}, batchSize={}, pollInterval={}",
+                concurrency, batchSize, pollInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        poller.interrupt();
+        executor.shutdown();
+        try {
+            // 종료 시간 내 끝나지 않은 항목은 lease 만료 후 다른 인스턴스가 재점유
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Webhook inbox worker did not finish in time, remaining entries will be reclaimed");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                // 최소 한 슬롯이 빌 때까지 대기 후, 남은 슬롯 수만큼만 점유
+                slots.acquire();
+                int available = 1 + slots.drainPermits();
+                List<WebhookInbox> batch;
+                try {
+                    batch = inboxService.claim(Math.min(batchSize, available));
+                } catch (RuntimeException e) {
+                    slots.release(available);
+                    throw e;
+                }
+                slots.release(available - batch.size());
+
+                for (WebhookInbox inbox : batch) {
+                    executor.execute(() -> process(inbox));
+                }
+
+                if (batch.isEmpty()) {
+                    inboxService.awaitWork(pollInterval);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Webhook inbox polling error", e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void process(WebhookInbox inbox) {
+        try {
+            lagTimer.record(Duration.between(inbox.getReceivedAt(), Instant.now()));
+            webhookService.processInboxEntry(inbox, inboxService.readHeaders(inbox));
+            inboxService.complete(inbox.getId());
+            processedCounter.increment();
+        } catch (Exception e) {
+            log.warn("Webhook inbox entry processing failed: id={}, plugin={}, attempt={}, error={}",
+                    inbox.getId(), inbox.getPluginId(), inbox.getAttempts(), e.getMessage());
+            failedCounter.increment();
+            try {
+                inboxService.fail(inbox.getId(), e.getMessage());
+            } catch (Exception ex) {
+                log.error("Failed to update webhook inbox entry: id={}", inbox.getId(), ex);
+            }
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * 큐 깊이/지연 게이지 갱신
+     */
+    @Scheduled(fixedDelayString = "${webhook.ingestion.stats-interval:10s}")
+    public void refreshStats() {
+        if (!running) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            depth.set(inboxService.countPending());
+            oldestAgeSeconds.set(inboxService.findOldestPendingReceivedAt()
+                    .map(receivedAt -> Duration.between(receivedAt, now).toSeconds())
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Failed to refresh webhook inbox stats: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.ChangeVersionRepository;
+import com.daou.dop.gapps.core.repository.WebhookSubscriptionRepository;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웹훅 구독 라우팅 테이블
+ *
+ * <p>활성 구독을 (pluginId, eventType, connectionId) 키로 메모리에 색인한다.
+ * eventType/connectionId가 null인 구독은 와일드카드 버킷에 들어가며,
+ * 디스패치 시에는 최대 4번의 Map 조회로 매칭 구독을 찾는다.
+ *
+ * <p>갱신
+ * <ul>
+ *   <li>기동 시 전체 로드</li>
+ *   <li>이 노드에서의 변경: {@link WebhookSubscriptionService}가 커밋 후 {@link #upsert}/{@link #remove} 호출</li>
+ *   <li>다른 노드의 변경: change_version('webhook_subscription')을 주기적으로 비교하여 바뀌었으면 전체 재로드</li>
+ * </ul>
+ *
+ * <p>이 노드의 변경은 변경 전/후 버전을 함께 전달받아, 적재된 버전이 변경 전 버전과 같을 때만
+ * 적재 버전을 앞당긴다. 그 사이 다른 노드의 변경이 있었다면 버전이 어긋나 다음 폴링에서 전체 재로드된다.
+ */
+@Component
+public class WebhookRoutingTable {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookRoutingTable.class);
+
+    static final String CHANGE_VERSION_NAME = "webhook_subscription";
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final ChangeVersionRepository changeVersionRepository;
+
+    private volatile Routes routes = Routes.EMPTY;
+    private volatile long loadedVersion = -1;
+
+    public WebhookRoutingTable(
+            WebhookSubscriptionRepository subscriptionRepository,
+            ChangeVersionRepository changeVersionRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.changeVersionRepository = changeVersionRepository;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * 매칭 구독 조회 (DB 조회 없음)
+     * pluginId 일치, eventType/connectionId는 구독 값이 null(전체)이거나 일치
+     */
+    public List<WebhookSubscription> match(String pluginId, String eventType, Long connectionId) {
+        Routes current = routes;
+        List<WebhookSubscription> matched = new ArrayList<>();
+        if (eventType != null && connectionId != null) {
+            addAll(matched, current.get(pluginId, eventType, connectionId));
+        }
+        if (eventType != null) {
+            addAll(matched, current.get(pluginId, eventType, null));
+        }
+        if (connectionId != null) {
+            addAll(matched, current.get(pluginId, null, connectionId));
+        }
+        addAll(matched, current.get(pluginId, null, null));
+        return matched;
+    }
+
+    /**
+     * 다른 노드의 변경 감지 시 재로드
+     */
+    @Scheduled(fixedDelayString = "${webhook.routing.refresh-interval:10s}")
+    public void refreshIfChanged() {
+        try {
+            long version = currentVersion();
+            if (version != loadedVersion) {
+                log.debug("Webhook subscription version changed: {} -> {}", loadedVersion, version);
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check webhook subscription version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재로드
+     * 버전을 먼저 읽으므로 로드 도중 발생한 변경은 다음 주기에 다시 반영된다.
+     */
+    public synchronized void reload() {
+        long version = currentVersion();
+        List<WebhookSubscription> subscriptions = subscriptionRepository.findByEnabled(true);
+
+        Map<Long, WebhookSubscription> byId = new LinkedHashMap<>();
+        subscriptions.forEach(subscription -> byId.put(subscription.getId(), subscription));
+
+        this.routes = Routes.of(byId);
+        this.loadedVersion = version;
+        log.info("Webhook routing table loaded: subscriptions={}, version={}", byId.size(), version);
+    }
+
+    /**
+     * 구독 추가/변경 반영 (비활성 구독은 제거)
+     *
+     * @param baseVersion 변경 전 버전
+     * @param newVersion 변경 후 버전
+     */
+    public synchronized void upsert(WebhookSubscription subscription, long baseVersion, long newVersion) {
+        Map<Long, WebhookSubscription> byId = new LinkedHashMap<>(routes.byId());
+        if (subscription.isEnabled()) {
+            byId.put(subscription.getId(), subscription);
+        } else {
+            byId.remove(subscription.getId());
+        }
+        this.routes = Routes.of(byId);
+        advanceVersion(baseVersion, newVersion);
+    }
+
+    /**
+     * 구독 삭제 반영
+     *
+     * @param baseVersion 변경 전 버전
+     * @param newVersion 변경 후 버전
+     */
+    public synchronized void remove(Long subscriptionId, long baseVersion, long newVersion) {
+        if (routes.byId().containsKey(subscriptionId)) {
+            Map<Long, WebhookSubscription> byId = new LinkedHashMap<>(routes.byId());
+            byId.remove(subscriptionId);
+            this.routes = Routes.of(byId);
+        }
+        advanceVersion(baseVersion, newVersion);
+    }
+
+    /**
+     * 자기 변경으로 인한 재로드 방지
+     * 적재된 버전이 변경 전 버전과 다르면(다른 노드 변경 미반영) 그대로 두어 폴링이 재로드하게 한다.
+     */
+    private void advanceVersion(long baseVersion, long newVersion) {
+        if (loadedVersion == baseVersion) {
+            this.loadedVersion = newVersion;
+        }
+    }
+
+    private long currentVersion() {
+        return changeVersionRepository.findVersionByName(CHANGE_VERSION_NAME).orElse(0L);
+    }
+
+    private static void addAll(List<WebhookSubscription> target, List<WebhookSubscription> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    /**
+     * 라우팅 키 (null은 와일드카드)
+     */
+    private record RouteKey(String pluginId, String eventType, Long connectionId) {
+    }
+
+    /**
+     * 불변 라우팅 스냅샷
+     */
+    private record Routes(Map<Long, WebhookSubscription> byId, Map<RouteKey, List<WebhookSubscription>> buckets) {
+
+        static final Routes EMPTY = new Routes(Map.of(), Map.of());
+
+        static Routes of(Map<Long, WebhookSubscription> byId) {
+            Map<RouteKey, List<WebhookSubscription>> buckets = new HashMap<>();
+            for (WebhookSubscription subscription : byId.values()) {
+                RouteKey key = new RouteKey(
+                        subscription.getPluginId(), subscription.getEventType(), subscription.getConnectionId());
+                buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(subscription);
+            }
+            Map<RouteKey, List<WebhookSubscription>> frozen = new HashMap<>();
+            buckets.forEach((key, list) -> frozen.put(key, List.copyOf(list)));
+            return new Routes(Collections.unmodifiableMap(byId), Map.copyOf(frozen));
+        }
+
+        List<WebhookSubscription> get(String pluginId, String eventType, Long connectionId) {
+            return buckets.get(new RouteKey(pluginId, eventType, connectionId));
+        }
+    }
+}
@@ -4,16 +4,17 @@ import com.daou.dop.gapps.core.dto.PluginConfigInfo;
 import com.daou.dop.gapps.core.plugin.PluginRegistry;
 import com.daou.dop.gapps.core.plugin.PluginService;
 import com.daou.dop.gapps.core.repository.PluginConnectionRepository;
-import com.daou.dop.gapps.core.repository.WebhookEventLogRepository;
 import com.daou.dop.gapps.domain.connection.PluginConnection;
 import com.daou.dop.gapps.domain.enums.WebhookEventStatus;
 import com.daou.dop.gapps.domain.webhook.WebhookEventLog;
+import com.daou.dop.gapps.domain.webhook.WebhookInbox;
 import com.daou.dop.gapps.plugin.sdk.PluginConfig;
 import com.daou.dop.gapps.plugin.sdk.WebhookEvent;
 import com.daou.dop.gapps.plugin.sdk.WebhookHandler;
 import com.daou.dop.gapps.plugin.sdk.WebhookImmediateResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,12 @@ import java.util.Optional;
 
 /**
  * 웹훅 수신 처리 서비스
+ *
+ * <p>수신 모드 ({@code webhook.ingestion.mode})
+ * <ul>
+ *   <li>sync: 수신 요청 안에서 파싱/연동 조회/디스패치까지 수행 (기본값)</li>
+ *   <li>async: 서명 검증 후 수신함에 적재하고 즉시 응답, 나머지는 {@link WebhookInboxWorker}가 처리</li>
+ * </ul>
  */
 @Service
 public class WebhookService {
@@ -32,20 +39,26 @@ public class WebhookService {
     private final PluginRegistry pluginRegistry;
     private final PluginService pluginService;
     private final PluginConnectionRepository connectionRepository;
-    private final WebhookEventLogRepository eventLogRepository;
+    private final WebhookEventLogWriter eventLogWriter;
     private final WebhookDispatcher dispatcher;
+    private final WebhookInboxService inboxService;
+    private final boolean asyncIngestion;
 
     public WebhookService(
             PluginRegistry pluginRegistry,
             PluginService pluginService,
             PluginConnectionRepository connectionRepository,
-            WebhookEventLogRepository eventLogRepository,
-            WebhookDispatcher dispatcher) {
+            WebhookEventLogWriter eventLogWriter,
+            WebhookDispatcher dispatcher,
+            WebhookInboxService inboxService,
+            @Value("${webhook.ingestion.mode:sync}") String ingestionMode) {
         this.pluginRegistry = pluginRegistry;
         this.pluginService = pluginService;
         this.connectionRepository = connectionRepository;
-        this.eventLogRepository = eventLogRepository;
+        this.eventLogWriter = eventLogWriter;
         this.dispatcher = dispatcher;
+        this.inboxService = inboxService;
+        this.asyncIngestion = "async".equalsIgnoreCase(ingestionMode);
     }
 
     /**
@@ -78,7 +91,11 @@ public class WebhookService {
             return WebhookResult.notFound("WebhookHandler not found: " + pluginId);
         }
 
-        // 2. 로그 생성 (RECEIVED)
+        if (asyncIngestion) {
+            return acceptToInbox(handler, pluginId, connectionId, payload, rawPayload, headers);
+        }
+
+        // 2. 로그 생성 (최종 상태로 한 번만 저장)
         WebhookEventLog eventLog = createEventLog(pluginId, rawPayload);
 
         try {
@@ -90,14 +107,14 @@ public class WebhookService {
                 return handleError(eventLog, "Plugin config not found: " + pluginId);
             }
 
-            PluginConfig config = toPluginConfig(configInfo);
+            PluginConfig config = pluginRegistry.toSdkConfig(configInfo);
 
             // 4. 서명 검증
             if (handler.supportsSignatureVerification()) {
                 if (!handler.verifySignature(config, payload, headers)) {
                     log.warn("Webhook signature verification failed: plugin={}", pluginId);
                     eventLog.markFailed("Signature verification failed");
-                    eventLogRepository.save(eventLog);
+                    eventLogWriter.write(eventLog);
                     return WebhookResult.forbidden("Invalid signature");
                 }
             }
@@ -127,7 +144,7 @@ public class WebhookService {
                     dispatcher.dispatch(event);
                 }
                 eventLog.markSuccess();
-                eventLogRepository.save(eventLog);
+                eventLogWriter.write(eventLog);
                 log.info("Webhook processed with immediate response: plugin={}, event={}",
                         pluginId, event.eventType());
                 return WebhookResult.of(immediateResponse.get());
@@ -139,7 +156,7 @@ public class WebhookService {
             }
 
             eventLog.markSuccess();
-            eventLogRepository.save(eventLog);
+            eventLogWriter.write(eventLog);
             log.info("Webhook processed: plugin={}, event={}", pluginId, event.eventType());
 
             return WebhookResult.ok();
@@ -150,18 +167,123 @@ public class WebhookService {
         }
     }
 
+    /**
+     * 비동기 수신: 서명 검증 후 수신함 적재
+     * URL 검증(challenge) 등 즉시 응답은 수신 요청 안에서 만들어야 하므로 파싱까지만 수행한다.
+     */
+    private WebhookResult acceptToInbox(
+            WebhookHandler handler,
+            String pluginId,
+            Long connectionId,
+            byte[] payload,
+            String rawPayload,
+            Map<String, String> headers) {
+
+        try {
+            PluginConfigInfo configInfo = pluginService.getPluginConfig(pluginId)
+                    .orElse(null);
+
+            if (configInfo == null) {
+                return handleError(createEventLog(pluginId, rawPayload), "Plugin config not found: " + pluginId);
+            }
+
+            if (handler.supportsSignatureVerification()) {
+                if (!handler.verifySignature(pluginRegistry.toSdkConfig(configInfo), payload, headers)) {
+                    log.warn("Webhook signature verification failed: plugin={}", pluginId);
+                    WebhookEventLog eventLog = createEventLog(pluginId, rawPayload);
+                    eventLog.markFailed("Signature verification failed");
+                    eventLogWriter.write(eventLog);
+                    return WebhookResult.forbidden("Invalid signature");
+                }
+            }
+
+            WebhookEvent event = handler.parseEvent(rawPayload, headers);
+            Optional<WebhookImmediateResponse> immediateResponse =
+                    handler.getImmediateResponse(event, rawPayload);
+
+            if (event.isProcessable()) {
+                WebhookInbox inbox = inboxService.enqueue(pluginId, connectionId, rawPayload, headers);
+                log.debug("Webhook enqueued: plugin={}, event={}, inboxId={}",
+                        pluginId, event.eventType(), inbox.getId());
+            } else {
+                // 처리 대상이 아닌 이벤트(URL 검증 등)는 수신함을 거치지 않으므로 sync 모드와 같이 여기서 로그를 남긴다
+                WebhookEventLog eventLog = createEventLog(pluginId, rawPayload);
+                eventLog.updateEventType(event.eventType());
+                if (connectionId != null) {
+                    eventLog.updateConnectionId(connectionId);
+                }
+                eventLog.markSuccess();
+                eventLogWriter.write(eventLog);
+            }
+
+            return immediateResponse.map(WebhookResult::of).orElseGet(WebhookResult::ok);
+
+        } catch (Exception e) {
+            log.error("Webhook ingestion error: plugin={}", pluginId, e);
+            return WebhookResult.error(e.getMessage());
+        }
+    }
+
+    /**
+     * 수신함 항목 처리 (워커 호출)
+     * 서명은 수신 시 검증되었으므로 연동 조회/파싱/디스패치만 수행한다.
+     * 디스패치 중 DB 커넥션을 점유하지 않도록 트랜잭션으로 감싸지 않는다.
+     *
+     * @throws RuntimeException 처리 실패 시 (워커가 재시도 여부 결정)
+     */
+    public void processInboxEntry(WebhookInbox inbox, Map<String, String> headers) {
+        String pluginId = inbox.getPluginId();
+        String rawPayload = inbox.getPayload();
+
+        WebhookHandler handler = pluginRegistry.findWebhookHandler(pluginId)
+                .orElseThrow(() -> new IllegalStateException("WebhookHandler not found: " + pluginId));
+
+        WebhookEventLog eventLog = createEventLog(pluginId, rawPayload);
+
+        try {
+            PluginConnection connection = resolveConnection(
+                    pluginId, inbox.getConnectionId(), handler, rawPayload, headers);
+            if (connection != null) {
+                eventLog.updateConnectionId(connection.getId());
+            }
+
+            WebhookEvent event = handler.parseEvent(rawPayload, headers);
+            eventLog.updateEventType(event.eventType());
+
+            if (connection != null) {
+                event = event.withConnection(connection.getId(), connection.getCompanyId());
+            }
+
+            if (event.isProcessable() && connection != null) {
+                dispatcher.dispatch(event);
+            }
+
+            eventLog.markSuccess();
+            eventLogWriter.write(eventLog);
+            log.info("Webhook processed from inbox: plugin={}, event={}, inboxId={}",
+                    pluginId, event.eventType(), inbox.getId());
+
+        } catch (RuntimeException e) {
+            eventLog.markFailed(e.getMessage());
+            eventLogWriter.write(eventLog);
+            throw e;
+        }
+    }
+
+    /**
+     * 로그 생성 (저장하지 않음 - 처리 완료 후 {@link WebhookEventLogWriter}로 한 번만 저장)
+     */
     private WebhookEventLog createEventLog(String pluginId, String payload) {
-        WebhookEventLog log = WebhookEventLog.builder()
+        return WebhookEventLog.builder()
                 .pluginId(pluginId)
                 .payload(payload)
                 .status(WebhookEventStatus.RECEIVED)
                 .build();
-        return eventLogRepository.save(log);
     }
 
     private WebhookResult handleError(WebhookEventLog eventLog, String message) {
         eventLog.markFailed(message);
-        eventLogRepository.save(eventLog);
+        eventLogWriter.write(eventLog);
         return WebhookResult.error(message);
     }
 
@@ -185,14 +307,4 @@ public class WebhookService {
 
         return connectionRepository.findByPluginIdAndExternalId(pluginId, externalId).orElse(null);
     }
-
-    private PluginConfig toPluginConfig(PluginConfigInfo info) {
-        return PluginConfig.builder()
-                .pluginId(info.pluginId())
-                .clientId(info.clientId())
-                .clientSecret(info.clientSecret())
-                .secrets(info.secrets())
-                .metadata(info.metadata())
-                .build();
-    }
 }
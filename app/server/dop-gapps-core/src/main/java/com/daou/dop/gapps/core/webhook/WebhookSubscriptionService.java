@@ -0,0 +1,128 @@
+package com.daou.dop.gapps.core.webhook;
+
+import com.daou.dop.gapps.core.repository.ChangeVersionRepository;
+import com.daou.dop.gapps.core.repository.WebhookSubscriptionRepository;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 웹훅 구독 관리 서비스
+ *
+ * <p>구독 변경은 커밋 이후 이 노드의 {@link WebhookRoutingTable}에 즉시 반영된다.
+ * 다른 노드는 change_version 폴링으로 반영한다.
+ *
+ * <p>변경 트랜잭션은 change_version 행을 먼저 잠그고 변경 전/후 버전을 읽는다.
+ * 잠금 덕분에 두 버전 사이에는 이 변경만 있으므로, 라우팅 테이블은 자기 변경을 이유로 재로드하지 않는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class WebhookSubscriptionService {
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final ChangeVersionRepository changeVersionRepository;
+    private final WebhookRoutingTable routingTable;
+
+    public WebhookSubscriptionService(
+            WebhookSubscriptionRepository subscriptionRepository,
+            ChangeVersionRepository changeVersionRepository,
+            WebhookRoutingTable routingTable) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.changeVersionRepository = changeVersionRepository;
+        this.routingTable = routingTable;
+    }
+
+    public Optional<WebhookSubscription> findById(Long id) {
+        return subscriptionRepository.findById(id);
+    }
+
+    public List<WebhookSubscription> findByPluginId(String pluginId) {
+        return subscriptionRepository.findByPluginId(pluginId);
+    }
+
+    @Transactional
+    public WebhookSubscription create(WebhookSubscription subscription) {
+        long baseVersion = lockVersion();
+        WebhookSubscription saved = subscriptionRepository.save(subscription);
+        long newVersion = flushedVersion();
+        afterCommit(() -> routingTable.upsert(saved, baseVersion, newVersion));
+        return saved;
+    }
+
+    @Transactional
+    public Optional<WebhookSubscription> updateFilter(Long id, String filterExpr) {
+        return update(id, subscription -> subscription.updateFilter(filterExpr));
+    }
+
+    @Transactional
+    public Optional<WebhookSubscription> updateRetryPolicy(Long id, String retryPolicy) {
+        return update(id, subscription -> subscription.updateRetryPolicy(retryPolicy));
+    }
+
+    @Transactional
+    public Optional<WebhookSubscription> enable(Long id) {
+        return update(id, WebhookSubscription::enable);
+    }
+
+    @Transactional
+    public Optional<WebhookSubscription> disable(Long id) {
+        return update(id, WebhookSubscription::disable);
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        long baseVersion = lockVersion();
+        if (subscriptionRepository.findById(id).isEmpty()) {
+            return false;
+        }
+        subscriptionRepository.deleteById(id);
+        long newVersion = flushedVersion();
+        afterCommit(() -> routingTable.remove(id, baseVersion, newVersion));
+        return true;
+    }
+
+    private Optional<WebhookSubscription> update(Long id, Consumer<WebhookSubscription> change) {
+        long baseVersion = lockVersion();
+        return subscriptionRepository.findById(id).map(subscription -> {
+            change.accept(subscription);
+            WebhookSubscription saved = subscriptionRepository.save(subscription);
+            long newVersion = flushedVersion();
+            afterCommit(() -> routingTable.upsert(saved, baseVersion, newVersion));
+            return saved;
+        });
+    }
+
+    /**
+     * change_version 행 잠금 후 변경 전 버전 조회
+     */
+    private long lockVersion() {
+        return changeVersionRepository.lockVersionByName(WebhookRoutingTable.CHANGE_VERSION_NAME).orElse(0L);
+    }
+
+    /**
+     * 변경을 flush하여 트리거를 실행한 뒤 변경 후 버전 조회
+     */
+    private long flushedVersion() {
+        subscriptionRepository.flush();
+        return changeVersionRepository.findVersionByName(WebhookRoutingTable.CHANGE_VERSION_NAME).orElse(0L);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.daou.dop.gapps.domain.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * 변경 버전 Entity
+ *
+ * <p>캐시 대상 테이블별 변경 카운터. DB 트리거가 대상 테이블 변경 시 version을 증가시키며,
+ * 각 노드는 version을 주기적으로 비교하여 메모리 캐시를 갱신한다.
+ */
+@Entity
+@Table(name = "change_version")
+public class ChangeVersion {
+
+    /**
+     * 대상 이름 (webhook_subscription 등)
+     */
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    protected ChangeVersion() {
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getVersion() { return version; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
@@ -12,7 +12,7 @@ import java.time.Instant;
  * OAuth 인증 정보 Entity
  *
  * <p>PluginConnection과 1:1 관계
- * <p>access_token, refresh_token은 infrastructure에서 암호화 Converter 적용
+ * <p>access_token, refresh_token은 infrastructure의 META-INF/orm.xml에서 암호화 Converter 적용
  */
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -35,13 +35,13 @@ public class OAuthCredential {
     /**
      * 액세스 토큰 (암호화)
      */
-    @Column(nullable = false, length = 1024)
+    @Column(nullable = false, columnDefinition = "TEXT")
     private String accessToken;
 
     /**
      * 리프레시 토큰 (암호화, nullable)
      */
-    @Column(length = 1024)
+    @Column(columnDefinition = "TEXT")
     private String refreshToken;
 
     /**
@@ -0,0 +1,11 @@
+package com.daou.dop.gapps.domain.enums;
+
+/**
+ * 웹훅 재전송(delivery) 상태
+ */
+public enum WebhookDeliveryStatus {
+    PENDING_RETRY,  // 재시도 대기 (nextAttemptAt 도래 시 처리)
+    IN_FLIGHT,      // 스케줄러가 재전송 중
+    SUCCEEDED,      // 재전송 성공
+    DEAD            // 재시도 소진 (dead-letter)
+}
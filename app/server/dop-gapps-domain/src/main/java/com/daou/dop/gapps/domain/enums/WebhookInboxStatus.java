@@ -0,0 +1,10 @@
+package com.daou.dop.gapps.domain.enums;
+
+/**
+ * 웹훅 수신함(inbox) 처리 상태
+ */
+public enum WebhookInboxStatus {
+    PENDING,     // 처리 대기
+    PROCESSING,  // 워커가 처리 중
+    FAILED       // 재시도 소진
+}
@@ -0,0 +1,93 @@
+package com.daou.dop.gapps.domain.webhook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 웹훅 페이로드 압축/해제
+ *
+ * <p>일정 크기 이상은 deflate로 압축하고, 작은 페이로드는 압축 이득이 없어 원문(identity) 그대로 저장한다.
+ */
+public final class PayloadCodec {
+
+    public static final String DEFLATE = "deflate";
+    public static final String IDENTITY = "identity";
+
+    /**
+     * 이 크기(바이트) 미만은 압축하지 않음
+     */
+    static final int MIN_COMPRESS_SIZE = 512;
+
+    private PayloadCodec() {
+    }
+
+    /**
+     * @param data         저장 바이트
+     * @param encoding     인코딩 (deflate, identity)
+     * @param originalSize 원본 UTF-8 바이트 크기
+     */
+    public record Encoded(byte[] data, String encoding, int originalSize) {
+    }
+
+    public static Encoded encode(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        byte[] raw = payload.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < MIN_COMPRESS_SIZE) {
+            return new Encoded(raw, IDENTITY, raw.length);
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            byte[] compressed = out.toByteArray();
+            // 압축 효과가 없으면 원문 저장
+            if (compressed.length >= raw.length) {
+                return new Encoded(raw, IDENTITY, raw.length);
+            }
+            return new Encoded(compressed, DEFLATE, raw.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decode(byte[] data, String encoding, Integer originalSize) {
+        if (data == null) {
+            return null;
+        }
+        if (!DEFLATE.equals(encoding)) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            int expected = originalSize != null && originalSize > 0 ? originalSize : data.length * 4;
+            ByteArrayOutputStream out = new ByteArrayOutputStream(expected);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted webhook payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.daou.dop.gapps.domain.webhook;
+
+import com.daou.dop.gapps.domain.enums.WebhookDeliveryStatus;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 웹훅 재전송 Entity
+ *
+ * <p>구독 대상 디스패치가 실패한 이벤트를 보관하고, 재시도 정책에 따라 재전송 시점을 관리
+ * <p>재시도를 모두 소진하면 DEAD 상태로 남아 수동 확인 대상이 된다
+ */
+@Entity
+@Table(name = "webhook_delivery", indexes = {
+        @Index(name = "idx_webhook_delivery_due", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_webhook_delivery_subscription", columnList = "subscriptionId")
+})
+public class WebhookDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 대상 구독 ID (구독 삭제 시 null)
+     */
+    @Column
+    private Long subscriptionId;
+
+    /**
+     * 플러그인 ID
+     */
+    @Column(nullable = false, length = 50)
+    private String pluginId;
+
+    /**
+     * 이벤트 타입
+     */
+    @Column(length = 100)
+    private String eventType;
+
+    /**
+     * 전송 본문 (직렬화된 WebhookEvent JSON)
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    /**
+     * 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookDeliveryStatus status;
+
+    /**
+     * 전송 시도 횟수 (최초 디스패치 포함)
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 재시도 시간
+     */
+    @Column
+    private Instant nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 스케줄러 점유 시간 (lease 만료 판단용)
+     */
+    @Column
+    private Instant lockedAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column
+    private Instant updatedAt;
+
+    protected WebhookDelivery() {
+    }
+
+    private WebhookDelivery(Builder builder) {
+        this.subscriptionId = builder.subscriptionId;
+        this.pluginId = builder.pluginId;
+        this.eventType = builder.eventType;
+        this.payload = builder.payload;
+        this.lastError = builder.lastError;
+        this.status = WebhookDeliveryStatus.PENDING_RETRY;
+        this.attempts = 1;
+        this.createdAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getSubscriptionId() { return subscriptionId; }
+    public String getPluginId() { return pluginId; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public WebhookDeliveryStatus getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public String getLastError() { return lastError; }
+    public Instant getLockedAt() { return lockedAt; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+
+    // Update methods
+    public void scheduleRetry(Instant nextAttemptAt) {
+        this.status = WebhookDeliveryStatus.PENDING_RETRY;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public void markInFlight() {
+        this.status = WebhookDeliveryStatus.IN_FLIGHT;
+        this.attempts++;
+        this.lockedAt = Instant.now();
+        this.updatedAt = this.lockedAt;
+    }
+
+    public void markSucceeded() {
+        this.status = WebhookDeliveryStatus.SUCCEEDED;
+        this.nextAttemptAt = null;
+        this.lockedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public void recordFailure(String error) {
+        this.lastError = error;
+        this.updatedAt = Instant.now();
+    }
+
+    public void markDead(String error) {
+        this.status = WebhookDeliveryStatus.DEAD;
+        this.lastError = error;
+        this.nextAttemptAt = null;
+        this.lockedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public static class Builder {
+        private Long subscriptionId;
+        private String pluginId;
+        private String eventType;
+        private String payload;
+        private String lastError;
+
+        public Builder subscriptionId(Long subscriptionId) { this.subscriptionId = subscriptionId; return this; }
+        public Builder pluginId(String pluginId) { this.pluginId = pluginId; return this; }
+        public Builder eventType(String eventType) { this.eventType = eventType; return this; }
+        public Builder payload(String payload) { this.payload = payload; return this; }
+        public Builder lastError(String lastError) { this.lastError = lastError; return this; }
+
+        public WebhookDelivery build() {
+            return new WebhookDelivery(this);
+        }
+    }
+}
@@ -18,8 +18,12 @@ import java.time.Instant;
 })
 public class WebhookEventLog {
 
+    /**
+     * 시퀀스 기반 ID (allocationSize 단위로 미리 할당하여 INSERT 배치 가능)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "webhook_event_log_seq")
+    @SequenceGenerator(name = "webhook_event_log_seq", sequenceName = "webhook_event_log_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -47,10 +51,29 @@ public class WebhookEventLog {
     private String externalId;
 
     /**
-     * 원본 페이로드
+     * 원본 페이로드 (V8 이전 저장분, 비압축)
      */
-    @Column(columnDefinition = "TEXT")
-    private String payload;
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String legacyPayload;
+
+    /**
+     * 원본 페이로드 (압축, 행 외부 TOAST 저장)
+     * 목록 조회는 {@code WebhookEventLogSummary} 프로젝션을 사용하여 이 컬럼을 읽지 않는다
+     */
+    @Column(columnDefinition = "BYTEA")
+    private byte[] payloadData;
+
+    /**
+     * 페이로드 인코딩 (deflate, identity)
+     */
+    @Column(length = 10)
+    private String payloadEncoding;
+
+    /**
+     * 원본 페이로드 크기 (UTF-8 바이트)
+     */
+    @Column
+    private Integer payloadSize;
 
     /**
      * 처리 상태
@@ -82,7 +105,12 @@ public class WebhookEventLog {
         this.connectionId = builder.connectionId;
         this.eventType = builder.eventType;
         this.externalId = builder.externalId;
-        this.payload = builder.payload;
+        PayloadCodec.Encoded encoded = PayloadCodec.encode(builder.payload);
+        if (encoded != null) {
+            this.payloadData = encoded.data();
+            this.payloadEncoding = encoded.encoding();
+            this.payloadSize = encoded.originalSize();
+        }
         this.status = builder.status != null ? builder.status : WebhookEventStatus.RECEIVED;
         this.errorMessage = builder.errorMessage;
         this.createdAt = Instant.now();
@@ -98,12 +126,22 @@ public class WebhookEventLog {
     public Long getConnectionId() { return connectionId; }
     public String getEventType() { return eventType; }
     public String getExternalId() { return externalId; }
-    public String getPayload() { return payload; }
+    public Integer getPayloadSize() { return payloadSize; }
     public WebhookEventStatus getStatus() { return status; }
     public String getErrorMessage() { return errorMessage; }
     public Instant getProcessedAt() { return processedAt; }
     public Instant getCreatedAt() { return createdAt; }
 
+    /**
+     * 원본 페이로드 (압축 해제)
+     */
+    public String getPayload() {
+        if (payloadData != null) {
+            return PayloadCodec.decode(payloadData, payloadEncoding, payloadSize);
+        }
+        return legacyPayload;
+    }
+
     // Update methods
     public void markSuccess() {
         this.status = WebhookEventStatus.SUCCESS;
@@ -124,6 +162,14 @@ public class WebhookEventLog {
         this.eventType = eventType;
     }
 
+    /**
+     * 저장 실패로 롤백된 엔티티를 다시 INSERT할 수 있도록 할당된 ID 제거
+     * (ID가 남아 있으면 merge로 처리되어 존재하지 않는 행 갱신으로 실패함)
+     */
+    public void resetId() {
+        this.id = null;
+    }
+
     public static class Builder {
         private String pluginId;
         private Long connectionId;
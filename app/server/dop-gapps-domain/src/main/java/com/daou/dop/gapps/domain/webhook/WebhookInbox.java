@@ -0,0 +1,148 @@
+package com.daou.dop.gapps.domain.webhook;
+
+import com.daou.dop.gapps.domain.enums.WebhookInboxStatus;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 웹훅 수신함 Entity
+ *
+ * <p>비동기 수신 모드에서 서명 검증을 통과한 원본 웹훅을 적재하는 내구성 큐
+ * <p>워커가 배치 단위로 점유(PROCESSING)하여 파싱/연동 조회/디스패치 후 삭제
+ */
+@Entity
+@Table(name = "webhook_inbox", indexes = {
+        @Index(name = "idx_webhook_inbox_status", columnList = "status, id")
+})
+public class WebhookInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 플러그인 ID
+     */
+    @Column(nullable = false, length = 50)
+    private String pluginId;
+
+    /**
+     * 연동 ID (URL에 명시된 경우)
+     */
+    @Column
+    private Long connectionId;
+
+    /**
+     * 원본 페이로드
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    /**
+     * 수신 HTTP 헤더 (JSON, 소문자 키)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String headers;
+
+    /**
+     * 처리 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookInboxStatus status;
+
+    /**
+     * 처리 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 마지막 에러 메시지
+     */
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    /**
+     * 워커 점유 시간 (lease 만료 판단용)
+     */
+    @Column
+    private Instant lockedAt;
+
+    /**
+     * 다음 처리 가능 시간 (실패 후 재시도 지연)
+     */
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(nullable = false)
+    private Instant receivedAt;
+
+    protected WebhookInbox() {
+    }
+
+    private WebhookInbox(Builder builder) {
+        this.pluginId = builder.pluginId;
+        this.connectionId = builder.connectionId;
+        this.payload = builder.payload;
+        this.headers = builder.headers;
+        this.status = WebhookInboxStatus.PENDING;
+        this.attempts = 0;
+        this.receivedAt = Instant.now();
+        this.nextAttemptAt = this.receivedAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getPluginId() { return pluginId; }
+    public Long getConnectionId() { return connectionId; }
+    public String getPayload() { return payload; }
+    public String getHeaders() { return headers; }
+    public WebhookInboxStatus getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public String getErrorMessage() { return errorMessage; }
+    public Instant getLockedAt() { return lockedAt; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public Instant getReceivedAt() { return receivedAt; }
+
+    // Update methods
+    public void markProcessing() {
+        this.status = WebhookInboxStatus.PROCESSING;
+        this.attempts++;
+        this.lockedAt = Instant.now();
+    }
+
+    public void releaseForRetry(String errorMessage, Instant nextAttemptAt) {
+        this.status = WebhookInboxStatus.PENDING;
+        this.errorMessage = errorMessage;
+        this.lockedAt = null;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = WebhookInboxStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.lockedAt = null;
+    }
+
+    public static class Builder {
+        private String pluginId;
+        private Long connectionId;
+        private String payload;
+        private String headers;
+
+        public Builder pluginId(String pluginId) { this.pluginId = pluginId; return this; }
+        public Builder connectionId(Long connectionId) { this.connectionId = connectionId; return this; }
+        public Builder payload(String payload) { this.payload = payload; return this; }
+        public Builder headers(String headers) { this.headers = headers; return this; }
+
+        public WebhookInbox build() {
+            return new WebhookInbox(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.daou.dop.gapps.infrastructure.webhook.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구독 필터 평가 비용 (표현식 복잡도별)
+ *
+ * <p>컴파일은 구독 버전마다 한 번이므로 측정에서 제외하고, 디스패치 시 매 이벤트마다 일어나는 평가만 측정한다.
+ * {@code compile}은 캐시 미스 시 비용 비교용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterExpressionBenchmark {
+
+    @Param({"simple", "compound", "regex", "in"})
+    private String complexity;
+
+    private String expression;
+    private FilterPredicate predicate;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() {
+        expression = switch (complexity) {
+            case "simple" -> "$.issue.fields.priority.name == 'High'";
+            case "compound" -> "$.issue.fields.priority.name == 'High' && $.issue.fields.votes >= 10"
+                    + " && !$.issue.fields.resolution && ($.issue.id == 9007199254740993 || $.user.active)";
+            case "regex" -> "$.changelog.items[0].field =~ '^(status|resolution)$'"
+                    + " && $.issue.fields.summary =~ '(?i)outage'";
+            case "in" -> "$.webhookEvent in ['jira:issue_created', 'jira:issue_updated', 'jira:issue_deleted']"
+                    + " && $.issue.fields.votes in [1, 5, 10, 15.5]";
+            default -> throw new IllegalArgumentException("Unknown complexity: " + complexity);
+        };
+        predicate = FilterExpressionCompiler.compile(expression);
+        data = Map.of(
+                "webhookEvent", "jira:issue_updated",
+                "user", Map.of("accountId", "5b10ac8d82e05b22cc7d4ef5", "active", true),
+                "issue", Map.of(
+                        "id", 9007199254740993L,
+                        "key", "OPS-1234",
+                        "fields", Map.of(
+                                "summary", "Production outage in payment gateway",
+                                "priority", Map.of("name", "High"),
+                                "votes", 10,
+                                "labels", List.of("incident", "payments"))),
+                "changelog", Map.of(
+                        "items", List.of(
+                                Map.of("field", "status", "fromString", "Open", "toString", "In Progress"))));
+        if (!predicate.test(data)) {
+            throw new IllegalStateException("Benchmark expression must match sample data: " + expression);
+        }
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return predicate.test(data);
+    }
+
+    @Benchmark
+    public FilterPredicate compile() {
+        return FilterExpressionCompiler.compile(expression);
+    }
+}
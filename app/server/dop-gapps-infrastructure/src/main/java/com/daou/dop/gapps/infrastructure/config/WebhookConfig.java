@@ -3,10 +3,13 @@ package com.daou.dop.gapps.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 /**
  * 웹훅 관련 설정
@@ -14,12 +17,20 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class WebhookConfig {
 
-    @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(30000);
-        return new RestTemplate(factory);
+    /**
+     * 웹훅 HTTP 전송 전용 클라이언트
+     * 대상별 keep-alive 연결을 풀로 재사용하고, https 구독 서버가 지원하면 HTTP/2로 다중화한다.
+     * 평문 http 대상은 디스패처가 요청 단위로 HTTP/1.1을 지정한다 (h2c 업그레이드 미사용).
+     * 호스트별 동시 전송 수는 디스패처의 bulkhead(max-concurrent-per-target)로 제한된다.
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient webhookHttpClient(
+            @Value("${webhook.dispatch.connect-timeout:5s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
     }
 
     @Bean
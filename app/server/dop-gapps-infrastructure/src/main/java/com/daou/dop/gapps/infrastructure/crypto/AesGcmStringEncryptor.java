@@ -0,0 +1,167 @@
+package com.daou.dop.gapps.infrastructure.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AES-256-GCM 문자열 암호화 (키 버전 헤더 포함)
+ *
+ * <p>암호문 형식: {@code {gcm}v<keyVersion>:<base64(iv(12) || ciphertext || tag(16))>}
+ * <ul>
+ *   <li>버전별 데이터 키는 기동 시 한 번만 PBKDF2로 유도하고, 값마다 임의 IV로 암호화한다</li>
+ *   <li>헤더(v&lt;keyVersion&gt;)를 AAD로 묶어 버전 변조를 막는다</li>
+ *   <li>키 교체: {@code crypto.aes-gcm.keys}에 새 버전을 추가하고 {@code active-key-version}을 올리면
+ *       이후 저장분부터 새 키로 암호화되며, 기존 버전 값은 계속 복호화된다</li>
+ *   <li>헤더가 없는 값은 암호화 적용 이전에 저장된 평문이다 ({@link #isEncrypted}, {@link EncryptedStringConverter})</li>
+ * </ul>
+ * 공유 상태는 불변 키뿐이고 Cipher는 호출마다 생성하므로 잠금 없이 코어 수만큼 병렬 처리된다.
+ */
+@Component
+public class AesGcmStringEncryptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AesGcmStringEncryptor.class);
+
+    static final String PREFIX = "{gcm}";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int KEY_BITS = 256;
+    private static final int KDF_ITERATIONS = 210_000;
+
+    private final Map<Integer, SecretKey> keys;
+    private final int activeVersion;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param keySpec 버전별 키 비밀값 ("1:secret1,2:secret2"), 비어 있으면 jasypt 비밀번호를 버전 1로 사용
+     */
+    public AesGcmStringEncryptor(
+            @Value("${crypto.aes-gcm.keys:}") String keySpec,
+            @Value("${crypto.aes-gcm.active-key-version:1}") int activeVersion,
+            @Value("${jasypt.encryptor.password:local}") String legacyPassword) {
+        this.activeVersion = activeVersion;
+        this.keys = deriveKeys(keySpec.isBlank() ? "1:" + legacyPassword : keySpec);
+
+        if (!keys.containsKey(activeVersion)) {
+            throw new IllegalStateException("No key configured for active key version " + activeVersion);
+        }
+        log.info("AES-GCM encryptor initialized: keyVersions={}, active={}", keys.keySet(), activeVersion);
+    }
+
+    public String encrypt(String plaintext) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        String header = "v" + activeVersion;
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeVersion), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            byte[] payload = ByteBuffer.allocate(IV_LENGTH + ciphertext.length)
+                    .put(iv)
+                    .put(ciphertext)
+                    .array();
+            return PREFIX + header + ":" + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM encryption failed", e);
+        }
+    }
+
+    public String decrypt(String stored) {
+        if (!isEncrypted(stored)) {
+            throw new IllegalArgumentException("Value is not AES-GCM ciphertext");
+        }
+
+        int separator = stored.indexOf(':', PREFIX.length());
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed AES-GCM ciphertext");
+        }
+        String header = stored.substring(PREFIX.length(), separator);
+        SecretKey key = keys.get(parseVersion(header));
+        if (key == null) {
+            throw new IllegalStateException("Unknown key version: " + header);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(stored.substring(separator + 1));
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM decryption failed", e);
+        }
+    }
+
+    /**
+     * AES-GCM 암호문 여부 (헤더 확인)
+     */
+    public boolean isEncrypted(String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+    /**
+     * 재암호화 필요 여부 (평문이거나 활성 버전이 아닌 키로 암호화된 값)
+     */
+    public boolean needsReencryption(String stored) {
+        return !stored.startsWith(PREFIX + "v" + activeVersion + ":");
+    }
+
+    private static int parseVersion(String header) {
+        if (!header.startsWith("v")) {
+            throw new IllegalArgumentException("Malformed key version header: " + header);
+        }
+        return Integer.parseInt(header.substring(1));
+    }
+
+    private static Map<Integer, SecretKey> deriveKeys(String keySpec) {
+        Map<Integer, SecretKey> derived = new HashMap<>();
+        for (String entry : keySpec.split(",")) {
+            int idx = entry.indexOf(':');
+            if (idx <= 0) {
+                throw new IllegalStateException("Invalid crypto.aes-gcm.keys entry (expected version:secret)");
+            }
+            int version = Integer.parseInt(entry.substring(0, idx).trim());
+            derived.put(version, deriveKey(version, entry.substring(idx + 1)));
+        }
+        return Map.copyOf(derived);
+    }
+
+    /**
+     * 버전별 데이터 키 유도 (기동 시 1회)
+     * 같은 비밀값/버전이면 항상 같은 키가 나오도록 salt는 버전에서 결정한다.
+     */
+    private static SecretKey deriveKey(int version, String secret) {
+        byte[] salt = ("dop-gapps:aes-gcm:v" + version).getBytes(StandardCharsets.UTF_8);
+        PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), salt, KDF_ITERATIONS, KEY_BITS);
+        try {
+            byte[] keyBytes = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+                    .generateSecret(spec)
+                    .getEncoded();
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Key derivation failed for version " + version, e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
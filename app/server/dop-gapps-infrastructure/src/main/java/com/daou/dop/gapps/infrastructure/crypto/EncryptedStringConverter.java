@@ -2,19 +2,29 @@ package com.daou.dop.gapps.infrastructure.crypto;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
-import org.jasypt.encryption.StringEncryptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
  * JPA AttributeConverter - 암호화/복호화 자동 처리
+ *
+ * <p>저장 시 항상 활성 키 버전의 AES-GCM으로 암호화한다.
+ * 적용 컬럼은 도메인 모듈이 infrastructure에 의존하지 않도록 META-INF/orm.xml에서 지정한다.
+ *
+ * <p>헤더가 없는 값은 암호화 적용 이전에 저장된 평문으로 보고 그대로 반환한다.
+ * 이런 행은 {@link OAuthCredentialEncryptionBackfill}이 기동 시 암호화하며,
+ * 그 전에 엔티티가 다시 저장되면 그때 암호화된다.
  */
 @Converter
 @Component
 public class EncryptedStringConverter implements AttributeConverter<String, String> {
 
-    private final StringEncryptor encryptor;
+    private static final Logger log = LoggerFactory.getLogger(EncryptedStringConverter.class);
 
-    public EncryptedStringConverter(StringEncryptor encryptor) {
+    private final AesGcmStringEncryptor encryptor;
+
+    public EncryptedStringConverter(AesGcmStringEncryptor encryptor) {
         this.encryptor = encryptor;
     }
 
@@ -25,6 +35,16 @@ public class EncryptedStringConverter implements AttributeConverter<String, Stri
 
     @Override
     public String convertToEntityAttribute(String dbData) {
-        return dbData != null ? encryptor.decrypt(dbData) : null;
+        if (dbData == null) {
+            return null;
+        }
+        if (!encryptor.isEncrypted(dbData)) {
+            log.debug("Read plaintext value stored before encryption, will be encrypted on next write");
+            return dbData;
+        }
+        if (encryptor.needsReencryption(dbData)) {
+            log.debug("Read value encrypted with inactive key version, will be re-encrypted on next write");
+        }
+        return encryptor.decrypt(dbData);
     }
 }
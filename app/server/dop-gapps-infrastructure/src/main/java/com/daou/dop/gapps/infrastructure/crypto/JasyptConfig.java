@@ -9,6 +9,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+/**
+ * Jasypt 설정
+ * 설정값(ENC(...)) 복호화에 사용 (컬럼 암호화는 {@link AesGcmStringEncryptor})
+ */
 @Configuration
 @EnableEncryptableProperties
 public class JasyptConfig {
@@ -23,7 +27,8 @@ public class JasyptConfig {
         SimpleStringPBEConfig config = new SimpleStringPBEConfig();
 
         config.setPassword(encryptorPassword);
-        config.setPoolSize("1");
+        // PBE는 호출마다 키를 유도하므로 인스턴스 하나에 모든 스레드가 직렬화되지 않도록 코어 수만큼 풀링
+        config.setPoolSize(String.valueOf(Runtime.getRuntime().availableProcessors()));
         config.setAlgorithm("PBEWITHHMACSHA512ANDAES_256");
         config.setStringOutputType("base64");
         config.setKeyObtentionIterations("1000");
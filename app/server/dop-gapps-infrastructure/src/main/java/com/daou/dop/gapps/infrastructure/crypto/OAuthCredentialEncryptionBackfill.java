@@ -0,0 +1,91 @@
+package com.daou.dop.gapps.infrastructure.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 암호화 적용 이전 OAuth 토큰 일괄 암호화
+ *
+ * <p>{@link EncryptedStringConverter}가 oauth_credential에 적용되기 전 저장된 토큰은 평문이다.
+ * 기동 완료 후 헤더({gcm})가 없는 행을 {@code batch-size}건씩 잠가(SKIP LOCKED) 암호화하므로
+ * 여러 노드가 동시에 기동해도 같은 행을 중복 처리하지 않는다. 모든 행이 암호화되면 조회 1회로 끝난다.
+ */
+@Component
+public class OAuthCredentialEncryptionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuthCredentialEncryptionBackfill.class);
+
+    private static final String ENCRYPTED_PATTERN = AesGcmStringEncryptor.PREFIX + "%";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AesGcmStringEncryptor encryptor;
+    private final int batchSize;
+
+    public OAuthCredentialEncryptionBackfill(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AesGcmStringEncryptor encryptor,
+            @Value("${crypto.backfill.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.encryptor = encryptor;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void encryptPlaintextTokens() {
+        try {
+            int total = 0;
+            int encrypted;
+            do {
+                encrypted = transactionTemplate.execute(status -> encryptBatch());
+                total += encrypted;
+            } while (encrypted >= batchSize);
+
+            if (total > 0) {
+                log.info("Encrypted {} plaintext OAuth credentials", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to encrypt plaintext OAuth credentials", e);
+        }
+    }
+
+    private int encryptBatch() {
+        List<TokenRow> rows = jdbcTemplate.query("""
+                SELECT id, access_token, refresh_token
+                FROM oauth_credential
+                WHERE access_token NOT LIKE ?
+                   OR refresh_token NOT LIKE ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new TokenRow(rs.getLong("id"), rs.getString("access_token"), rs.getString("refresh_token")),
+                ENCRYPTED_PATTERN, ENCRYPTED_PATTERN, batchSize);
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE oauth_credential SET access_token = ?, refresh_token = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, encryptIfPlaintext(row.accessToken()));
+                    ps.setString(2, encryptIfPlaintext(row.refreshToken()));
+                    ps.setLong(3, row.id());
+                });
+        return rows.size();
+    }
+
+    private String encryptIfPlaintext(String value) {
+        return value == null || encryptor.isEncrypted(value) ? value : encryptor.encrypt(value);
+    }
+
+    private record TokenRow(long id, String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.daou.dop.gapps.infrastructure.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 항목별 TTL을 갖는 일회성 값 저장소 (인메모리)
+ *
+ * <p>Caffeine의 가변 만료(계층형 timer wheel)를 사용하므로 저장/만료 처리가 항목 수와 무관하게 O(1)이다.
+ * 저장할 때마다 전체를 훑어 정리하지 않으며, 만료 항목은 스케줄러가 제거한다.
+ * 최대 크기를 넘으면 오래된 항목부터 제거해 메모리 사용량을 제한한다.
+ */
+class ExpiringValueStore {
+
+    private final Cache<String, Entry> cache;
+
+    ExpiringValueStore(long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    void put(String key, String value, Duration ttl) {
+        cache.put(key, new Entry(value, Instant.now().plus(ttl), ttl.toNanos()));
+    }
+
+    /**
+     * 값 조회 및 삭제 (일회성)
+     *
+     * @return 저장된 값, 없거나 만료된 경우 null
+     */
+    String consume(String key) {
+        Entry entry = cache.asMap().remove(key);
+        if (entry == null || !Instant.now().isBefore(entry.expiresAt())) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    private record Entry(String value, Instant expiresAt, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,33 +1,32 @@
 package com.daou.dop.gapps.infrastructure.oauth;
 
 import com.daou.dop.gapps.core.oauth.StateStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 인메모리 State 저장소 구현
- * 분산 환경에서는 Redis 등으로 대체 필요
+ * 인메모리 State 저장소 구현 (oauth.storage.type=memory, 기본값)
+ * OAuth 시작과 콜백이 같은 노드로 들어오는 단일 인스턴스용.
+ * 여러 노드로 운영할 때는 {@link JdbcStateStorage} 사용
  */
 @Component
+@ConditionalOnProperty(name = "oauth.storage.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryStateStorage implements StateStorage {
 
-    private final Map<String, StateEntry> stateStore = new ConcurrentHashMap<>();
+    private final ExpiringValueStore store;
+
+    public InMemoryStateStorage(@Value("${oauth.storage.memory.max-size:100000}") long maxSize) {
+        this.store = new ExpiringValueStore(maxSize);
+    }
 
     @Override
     public String generateAndStore(String pluginId, Duration ttl) {
         String state = UUID.randomUUID().toString();
-        String key = buildKey(pluginId, state);
-        Instant expiresAt = Instant.now().plus(ttl);
-        stateStore.put(key, new StateEntry(state, expiresAt));
-
-        // 만료된 항목 정리 (간단한 구현)
-        cleanupExpired();
-
+        store.put(buildKey(pluginId, state), state, ttl);
         return state;
     }
 
@@ -36,26 +35,10 @@ public class InMemoryStateStorage implements StateStorage {
         if (state == null || state.isBlank()) {
             return false;
         }
-
-        String key = buildKey(pluginId, state);
-        StateEntry entry = stateStore.remove(key);
-
-        if (entry == null) {
-            return false;
-        }
-
-        return Instant.now().isBefore(entry.expiresAt());
+        return store.consume(buildKey(pluginId, state)) != null;
     }
 
     private String buildKey(String pluginId, String state) {
         return pluginId + ":" + state;
     }
-
-    private void cleanupExpired() {
-        Instant now = Instant.now();
-        stateStore.entrySet().removeIf(entry -> now.isAfter(entry.getValue().expiresAt()));
-    }
-
-    private record StateEntry(String state, Instant expiresAt) {
-    }
 }
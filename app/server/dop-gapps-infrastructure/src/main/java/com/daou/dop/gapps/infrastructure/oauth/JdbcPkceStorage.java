@@ -0,0 +1,36 @@
+package com.daou.dop.gapps.infrastructure.oauth;
+
+import com.daou.dop.gapps.core.oauth.PkceStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DB 기반 PKCE 저장소 구현 (oauth.storage.type=jdbc, 다중 노드용)
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.storage.type", havingValue = "jdbc")
+public class JdbcPkceStorage implements PkceStorage {
+
+    private static final String NAMESPACE = "pkce";
+
+    private final JdbcTransientValueStore store;
+
+    public JdbcPkceStorage(JdbcTransientValueStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void store(String state, String codeVerifier, Duration ttl) {
+        store.put(NAMESPACE, state, codeVerifier, ttl);
+    }
+
+    @Override
+    public String consumeCodeVerifier(String state) {
+        if (state == null || state.isBlank()) {
+            return null;
+        }
+        return store.consume(NAMESPACE, state);
+    }
+}
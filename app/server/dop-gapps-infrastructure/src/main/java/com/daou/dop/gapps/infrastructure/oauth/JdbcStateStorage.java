@@ -0,0 +1,43 @@
+package com.daou.dop.gapps.infrastructure.oauth;
+
+import com.daou.dop.gapps.core.oauth.StateStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * DB 기반 State 저장소 구현 (oauth.storage.type=jdbc, 다중 노드용)
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.storage.type", havingValue = "jdbc")
+public class JdbcStateStorage implements StateStorage {
+
+    private static final String NAMESPACE = "state";
+
+    private final JdbcTransientValueStore store;
+
+    public JdbcStateStorage(JdbcTransientValueStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String generateAndStore(String pluginId, Duration ttl) {
+        String state = UUID.randomUUID().toString();
+        store.put(NAMESPACE, buildKey(pluginId, state), state, ttl);
+        return state;
+    }
+
+    @Override
+    public boolean validateAndConsume(String pluginId, String state) {
+        if (state == null || state.isBlank()) {
+            return false;
+        }
+        return store.consume(NAMESPACE, buildKey(pluginId, state)) != null;
+    }
+
+    private String buildKey(String pluginId, String state) {
+        return pluginId + ":" + state;
+    }
+}
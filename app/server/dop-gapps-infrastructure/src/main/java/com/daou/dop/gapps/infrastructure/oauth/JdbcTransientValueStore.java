@@ -0,0 +1,89 @@
+package com.daou.dop.gapps.infrastructure.oauth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 노드 간 공유 일회성 값 저장소 (oauth_transient_value 테이블)
+ *
+ * <p>OAuth 시작과 콜백이 서로 다른 노드로 들어와도 state/code_verifier를 찾을 수 있도록 DB에 보관한다.
+ * <ul>
+ *   <li>조회는 {@code DELETE ... RETURNING}으로 꺼내므로 같은 값을 두 번 소비할 수 없다</li>
+ *   <li>만료 항목은 조회 대상에서 제외하고, {@code purge-interval}마다 expires_at 인덱스로
+ *       {@code purge-batch-size}건씩 나눠 삭제한다 (긴 잠금/큰 트랜잭션 방지)</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.storage.type", havingValue = "jdbc")
+public class JdbcTransientValueStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTransientValueStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int purgeBatchSize;
+
+    public JdbcTransientValueStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${oauth.storage.jdbc.purge-batch-size:1000}") int purgeBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public void put(String namespace, String key, String value, Duration ttl) {
+        jdbcTemplate.update("""
+                INSERT INTO oauth_transient_value (namespace, value_key, value, expires_at)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (namespace, value_key)
+                DO UPDATE SET value = EXCLUDED.value, expires_at = EXCLUDED.expires_at
+                """, namespace, key, value, Timestamp.from(Instant.now().plus(ttl)));
+    }
+
+    /**
+     * 값 조회 및 삭제 (일회성)
+     *
+     * @return 저장된 값, 없거나 만료된 경우 null
+     */
+    public String consume(String namespace, String key) {
+        List<String> values = jdbcTemplate.queryForList("""
+                DELETE FROM oauth_transient_value
+                WHERE namespace = ? AND value_key = ? AND expires_at > NOW()
+                RETURNING value
+                """, String.class, namespace, key);
+        return values.isEmpty() ? null : values.getFirst();
+    }
+
+    @Scheduled(fixedDelayString = "${oauth.storage.jdbc.purge-interval:1m}")
+    public void purgeExpired() {
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update("""
+                        DELETE FROM oauth_transient_value
+                        WHERE ctid IN (
+                            SELECT ctid FROM oauth_transient_value
+                            WHERE expires_at <= NOW()
+                            LIMIT ?
+                        )
+                        """, purgeBatchSize);
+                total += deleted;
+            } while (deleted >= purgeBatchSize);
+
+            if (total > 0) {
+                log.debug("Purged {} expired OAuth transient values", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired OAuth transient values", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.repository.AdvisoryLockRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL advisory lock
+ * 잠금 이름은 hashtextextended로 64bit 키로 변환한다.
+ */
+@Repository
+public class JdbcAdvisoryLockRepository implements AdvisoryLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAdvisoryLockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lockForTransaction(String name) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtextextended(?, 0))", rs -> {
+        }, name);
+    }
+}
@@ -0,0 +1,98 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.repository.WebhookEventLogPartitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * webhook_event_log 파티션 관리 (PostgreSQL)
+ * DDL은 JPA로 다룰 수 없어 JdbcTemplate 사용
+ */
+@Repository
+public class JdbcWebhookEventLogPartitionRepository implements WebhookEventLogPartitionRepository {
+
+    private static final Pattern DAILY_PARTITION_NAME = Pattern.compile("webhook_event_log_p\\d{8}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration dropLockTimeout;
+
+    public JdbcWebhookEventLogPartitionRepository(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${webhook.event-log.partition.drop-lock-timeout:2s}") Duration dropLockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dropLockTimeout = dropLockTimeout;
+    }
+
+    @Override
+    public String createDailyPartition(LocalDate day) {
+        return jdbcTemplate.queryForObject(
+                "SELECT create_webhook_event_log_partition(?)", String.class, Date.valueOf(day));
+    }
+
+    @Override
+    public List<String> findDailyPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits i
+                JOIN pg_class child ON child.oid = i.inhrelid
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                WHERE parent.relname = 'webhook_event_log'
+                ORDER BY child.relname
+                """, String.class)
+                .stream()
+                .filter(name -> DAILY_PARTITION_NAME.matcher(name).matches())
+                .toList();
+    }
+
+    /**
+     * DETACH/DROP은 부모 테이블에 ACCESS EXCLUSIVE 잠금을 잡는다. 잠금 대기 중에도 뒤따르는 INSERT/조회가 모두 막히므로
+     * 짧은 lock_timeout 안에 잠금을 얻지 못하면 포기하고 다음 주기에 다시 시도한다.
+     * 기본 파티션이 있는 테이블에는 DETACH ... CONCURRENTLY를 쓸 수 없어 lock_timeout 방식을 사용한다.
+     */
+    @Override
+    public boolean dropPartition(String partitionName) {
+        if (!DAILY_PARTITION_NAME.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("Not a daily partition: " + partitionName);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = " + dropLockTimeout.toMillis());
+                jdbcTemplate.execute("ALTER TABLE webhook_event_log DETACH PARTITION " + partitionName);
+                jdbcTemplate.execute("DROP TABLE " + partitionName);
+            });
+            return true;
+        } catch (PessimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public long countDefaultPartitionRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_event_log_default", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<LocalDate> findDefaultPartitionDays() {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT (created_at AT TIME ZONE 'UTC')::date
+                FROM webhook_event_log_default
+                ORDER BY 1
+                """, Date.class)
+                .stream()
+                .map(Date::toLocalDate)
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.dto.WebhookEventLogCursor;
+import com.daou.dop.gapps.core.dto.WebhookEventLogExportRow;
+import com.daou.dop.gapps.core.dto.WebhookEventLogFilter;
+import com.daou.dop.gapps.core.dto.WebhookEventLogSummary;
+import com.daou.dop.gapps.core.repository.WebhookEventLogQueryRepository;
+import com.daou.dop.gapps.domain.enums.WebhookEventStatus;
+import com.daou.dop.gapps.domain.webhook.PayloadCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 웹훅 이벤트 로그 조회 (PostgreSQL)
+ * 선택 조건 조합과 fetch size 기반 스트리밍이 필요해 JdbcTemplate 사용
+ */
+@Repository
+public class JdbcWebhookEventLogQueryRepository implements WebhookEventLogQueryRepository {
+
+    private static final String BASE_COLUMNS = """
+            id, plugin_id, connection_id, event_type, external_id,
+            status, error_message, processed_at, created_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcWebhookEventLogQueryRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${webhook.event-log.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public List<WebhookEventLogSummary> findPage(WebhookEventLogFilter filter, WebhookEventLogCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(BASE_COLUMNS)
+                .append(", payload_size FROM webhook_event_log WHERE ");
+        appendFilter(sql, args, filter);
+        if (after != null) {
+            // row value 비교로 (created_at, id) 인덱스 범위 스캔
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(toTimestamp(after.createdAt()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toSummary(rs), args.toArray());
+    }
+
+    @Override
+    public void stream(WebhookEventLogFilter filter, boolean includePayload, Consumer<WebhookEventLogExportRow> consumer) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(BASE_COLUMNS);
+        if (includePayload) {
+            sql.append(", payload, payload_data, payload_encoding, payload_size");
+        }
+        sql.append(" FROM webhook_event_log WHERE ");
+        appendFilter(sql, args, filter);
+        sql.append(" ORDER BY created_at, id");
+
+        jdbcTemplate.query(con -> {
+            // PostgreSQL은 autocommit off 상태에서 fetch size를 지정해야 서버 커서로 나눠 읽는다
+            PreparedStatement ps = con.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(toExportRow(rs, includePayload));
+        });
+    }
+
+    private void appendFilter(StringBuilder sql, List<Object> args, WebhookEventLogFilter filter) {
+        sql.append("plugin_id = ? AND created_at >= ?");
+        args.add(filter.pluginId());
+        args.add(toTimestamp(filter.from()));
+        if (filter.to() != null) {
+            sql.append(" AND created_at < ?");
+            args.add(toTimestamp(filter.to()));
+        }
+        if (filter.connectionId() != null) {
+            sql.append(" AND connection_id = ?");
+            args.add(filter.connectionId());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND status = ?");
+            args.add(filter.status().name());
+        }
+        if (filter.eventType() != null && !filter.eventType().isBlank()) {
+            sql.append(" AND event_type = ?");
+            args.add(filter.eventType());
+        }
+    }
+
+    private WebhookEventLogSummary toSummary(ResultSet rs) throws SQLException {
+        return new WebhookEventLogSummary(
+                rs.getLong("id"),
+                rs.getString("plugin_id"),
+                rs.getObject("connection_id", Long.class),
+                rs.getString("event_type"),
+                rs.getString("external_id"),
+                WebhookEventStatus.valueOf(rs.getString("status")),
+                rs.getString("error_message"),
+                rs.getObject("payload_size", Integer.class),
+                toInstant(rs, "processed_at"),
+                toInstant(rs, "created_at"));
+    }
+
+    private WebhookEventLogExportRow toExportRow(ResultSet rs, boolean includePayload) throws SQLException {
+        String payload = null;
+        if (includePayload) {
+            byte[] data = rs.getBytes("payload_data");
+            // V8 이전 행은 압축되지 않은 payload 컬럼에 남아 있음
+            payload = data != null
+                    ? PayloadCodec.decode(data, rs.getString("payload_encoding"), rs.getObject("payload_size", Integer.class))
+                    : rs.getString("payload");
+        }
+        return new WebhookEventLogExportRow(
+                rs.getLong("id"),
+                rs.getString("plugin_id"),
+                rs.getObject("connection_id", Long.class),
+                rs.getString("event_type"),
+                rs.getString("external_id"),
+                WebhookEventStatus.valueOf(rs.getString("status")),
+                rs.getString("error_message"),
+                payload,
+                toInstant(rs, "processed_at"),
+                toInstant(rs, "created_at"));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+}
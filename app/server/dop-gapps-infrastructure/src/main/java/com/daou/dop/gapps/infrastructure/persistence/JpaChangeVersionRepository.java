@@ -0,0 +1,23 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.repository.ChangeVersionRepository;
+import com.daou.dop.gapps.domain.common.ChangeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * ChangeVersion JPA Repository
+ */
+@Repository
+public interface JpaChangeVersionRepository extends JpaRepository<ChangeVersion, String>, ChangeVersionRepository {
+
+    @Query("SELECT c.version FROM ChangeVersion c WHERE c.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+
+    @Query(value = "SELECT version FROM change_version WHERE name = :name FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockVersionByName(@Param("name") String name);
+}
@@ -1,10 +1,15 @@
 package com.daou.dop.gapps.infrastructure.persistence;
 
+import com.daou.dop.gapps.core.dto.ExpiringCredential;
 import com.daou.dop.gapps.core.repository.OAuthCredentialRepository;
 import com.daou.dop.gapps.domain.credential.OAuthCredential;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +23,19 @@ public interface JpaOAuthCredentialRepository extends JpaRepository<OAuthCredent
     boolean existsByConnectionId(Long connectionId);
 
     void deleteByConnectionId(Long connectionId);
+
+    @Query("""
+            SELECT new com.daou.dop.gapps.core.dto.ExpiringCredential(
+                o.connectionId, c.pluginId, c.externalId, o.expiresAt)
+            FROM OAuthCredential o
+            JOIN PluginConnection c ON c.id = o.connectionId
+            WHERE o.expiresAt < :threshold
+              AND o.refreshToken IS NOT NULL
+              AND c.status = com.daou.dop.gapps.domain.enums.ConnectionStatus.ACTIVE
+            ORDER BY o.expiresAt
+            LIMIT :limit
+            """)
+    List<ExpiringCredential> findRefreshableExpiringBefore(
+            @Param("threshold") Instant threshold,
+            @Param("limit") int limit);
 }
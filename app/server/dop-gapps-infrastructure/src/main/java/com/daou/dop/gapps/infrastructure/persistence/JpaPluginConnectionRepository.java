@@ -1,11 +1,16 @@
 package com.daou.dop.gapps.infrastructure.persistence;
 
+import com.daou.dop.gapps.core.dto.ConnectionCredentialStatus;
+import com.daou.dop.gapps.core.dto.ConnectionWithCredential;
 import com.daou.dop.gapps.core.repository.PluginConnectionRepository;
 import com.daou.dop.gapps.domain.connection.PluginConnection;
 import com.daou.dop.gapps.domain.enums.ConnectionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +43,37 @@ public interface JpaPluginConnectionRepository extends JpaRepository<PluginConne
     List<PluginConnection> findByUserId(Long userId);
 
     boolean existsByPluginIdAndExternalId(String pluginId, String externalId);
+
+    @Query("""
+            SELECT new com.daou.dop.gapps.core.dto.ConnectionWithCredential(c, o)
+            FROM PluginConnection c
+            JOIN OAuthCredential o ON o.connectionId = c.id
+            WHERE c.pluginId = :pluginId AND c.externalId = :externalId
+            """)
+    Optional<ConnectionWithCredential> findWithCredentialByPluginIdAndExternalId(
+            @Param("pluginId") String pluginId,
+            @Param("externalId") String externalId);
+
+    @Query("""
+            SELECT new com.daou.dop.gapps.core.dto.ConnectionWithCredential(c, o)
+            FROM PluginConnection c
+            JOIN OAuthCredential o ON o.connectionId = c.id
+            WHERE c.pluginId = :pluginId AND c.externalId IN :externalIds
+            """)
+    List<ConnectionWithCredential> findWithCredentialByPluginIdAndExternalIdIn(
+            @Param("pluginId") String pluginId,
+            @Param("externalIds") Collection<String> externalIds);
+
+    @Query("""
+            SELECT new com.daou.dop.gapps.core.dto.ConnectionCredentialStatus(
+                c.id, c.pluginId, c.externalId, c.externalName, c.status,
+                CASE WHEN o.id IS NOT NULL THEN true ELSE false END, o.expiresAt)
+            FROM PluginConnection c
+            LEFT JOIN OAuthCredential o ON o.connectionId = c.id
+            WHERE c.pluginId = :pluginId AND c.status = :status
+            ORDER BY c.id
+            """)
+    List<ConnectionCredentialStatus> findCredentialStatusesByPluginIdAndStatus(
+            @Param("pluginId") String pluginId,
+            @Param("status") ConnectionStatus status);
 }
@@ -0,0 +1,52 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.repository.WebhookDeliveryRepository;
+import com.daou.dop.gapps.domain.webhook.WebhookDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * WebhookDelivery JPA Repository
+ */
+@Repository
+public interface JpaWebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long>, WebhookDeliveryRepository {
+
+    /**
+     * 여러 노드가 재전송을 나눠 처리하도록 SKIP LOCKED 사용 (PostgreSQL)
+     */
+    @Query(value = """
+            SELECT * FROM webhook_delivery
+            WHERE (status = 'PENDING_RETRY' AND next_attempt_at <= :now)
+               OR (status = 'IN_FLIGHT' AND locked_at < :staleBefore)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<WebhookDelivery> lockDue(
+            @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM webhook_delivery
+            WHERE id IN (
+                SELECT id FROM webhook_delivery
+                WHERE (status = 'SUCCEEDED' AND updated_at < :succeededBefore)
+                   OR (status = 'DEAD' AND updated_at < :deadBefore)
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteFinishedBefore(
+            @Param("succeededBefore") Instant succeededBefore,
+            @Param("deadBefore") Instant deadBefore,
+            @Param("limit") int limit);
+}
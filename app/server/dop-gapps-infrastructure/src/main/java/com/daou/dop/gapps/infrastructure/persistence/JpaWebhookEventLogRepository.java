@@ -28,18 +28,6 @@ public interface JpaWebhookEventLogRepository extends JpaRepository<WebhookEvent
 
     List<WebhookEventLog> findByPluginIdAndCreatedAtBetween(String pluginId, Instant start, Instant end);
 
-    @Query("SELECT e FROM WebhookEventLog e WHERE e.pluginId = :pluginId ORDER BY e.createdAt DESC LIMIT :limit")
-    List<WebhookEventLog> findRecentByPluginId(@Param("pluginId") String pluginId, @Param("limit") int limit);
-
-    @Query("SELECT e FROM WebhookEventLog e WHERE e.connectionId = :connectionId ORDER BY e.createdAt DESC LIMIT :limit")
-    List<WebhookEventLog> findRecentByConnectionId(@Param("connectionId") Long connectionId, @Param("limit") int limit);
-
-    @Query("SELECT e FROM WebhookEventLog e WHERE e.pluginId = :pluginId AND e.connectionId = :connectionId ORDER BY e.createdAt DESC LIMIT :limit")
-    List<WebhookEventLog> findRecentByPluginIdAndConnectionId(
-            @Param("pluginId") String pluginId,
-            @Param("connectionId") Long connectionId,
-            @Param("limit") int limit);
-
     @Modifying
     @Query("DELETE FROM WebhookEventLog e WHERE e.createdAt < :before")
     int deleteByCreatedAtBefore(@Param("before") Instant before);
@@ -0,0 +1,39 @@
+package com.daou.dop.gapps.infrastructure.persistence;
+
+import com.daou.dop.gapps.core.repository.WebhookInboxRepository;
+import com.daou.dop.gapps.domain.enums.WebhookInboxStatus;
+import com.daou.dop.gapps.domain.webhook.WebhookInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WebhookInbox JPA Repository
+ */
+@Repository
+public interface JpaWebhookInboxRepository extends JpaRepository<WebhookInbox, Long>, WebhookInboxRepository {
+
+    /**
+     * 여러 인스턴스의 워커가 같은 행을 중복 점유하지 않도록 SKIP LOCKED 사용 (PostgreSQL)
+     * 재시도 대기 중인 항목은 next_attempt_at이 지난 뒤에만 점유한다.
+     */
+    @Query(value = """
+            SELECT * FROM webhook_inbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= NOW())
+               OR (status = 'PROCESSING' AND locked_at < :staleBefore)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<WebhookInbox> lockProcessable(@Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    long countByStatus(WebhookInboxStatus status);
+
+    @Query("SELECT MIN(i.receivedAt) FROM WebhookInbox i WHERE i.status = :status")
+    Optional<Instant> findOldestReceivedAt(@Param("status") WebhookInboxStatus status);
+}
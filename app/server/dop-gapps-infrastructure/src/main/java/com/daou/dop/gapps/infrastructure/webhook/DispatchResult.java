@@ -0,0 +1,41 @@
+package com.daou.dop.gapps.infrastructure.webhook;
+
+import java.time.Duration;
+
+/**
+ * 구독 단위 디스패치 결과
+ *
+ * @param subscriptionId 구독 ID
+ * @param target         디스패치 대상 (URL 또는 ServiceName.methodName)
+ * @param status         결과 상태
+ * @param elapsed        소요 시간
+ * @param error          실패 사유 (성공 시 null)
+ */
+public record DispatchResult(
+        Long subscriptionId,
+        String target,
+        Status status,
+        Duration elapsed,
+        String error
+) {
+
+    public enum Status {
+        SUCCESS,    // 전송 성공
+        FAILED,     // 대상 호출 실패
+        TIMEOUT,    // 구독별 deadline 초과로 취소
+        REJECTED    // 대상 호스트 동시 호출 한도 초과
+    }
+
+    public static DispatchResult success(Long subscriptionId, String target, Duration elapsed) {
+        return new DispatchResult(subscriptionId, target, Status.SUCCESS, elapsed, null);
+    }
+
+    public static DispatchResult failure(Long subscriptionId, String target, Status status,
+                                         Duration elapsed, String error) {
+        return new DispatchResult(subscriptionId, target, status, elapsed, error);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -1,109 +1,340 @@
 package com.daou.dop.gapps.infrastructure.webhook;
 
-import com.daou.dop.gapps.core.repository.WebhookSubscriptionRepository;
+import com.daou.dop.gapps.core.webhook.WebhookDeliveryService;
 import com.daou.dop.gapps.core.webhook.WebhookDispatcher;
+import com.daou.dop.gapps.core.webhook.WebhookRoutingTable;
 import com.daou.dop.gapps.domain.enums.WebhookTargetType;
 import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import com.daou.dop.gapps.infrastructure.webhook.filter.SubscriptionFilterCache;
 import com.daou.dop.gapps.plugin.sdk.WebhookEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 웹훅 이벤트 디스패처 구현체
  * 구독 설정에 따라 HTTP 호출 또는 내부 메서드 호출
+ *
+ * <p>구독별 호출은 Virtual Thread에서 동시에 실행되며,
+ * 대상별 동시 호출 수({@code webhook.dispatch.max-concurrent-per-target})와
+ * 구독별 deadline({@code webhook.dispatch.timeout})으로 제한한다.
+ * 구독 필터({@code filterExpr})는 디스패치 전에 평가하여 맞지 않는 이벤트는 전송하지 않는다.
+ * 이벤트는 한 번만 직렬화하고, 그 바이트 배열을 모든 HTTP 구독과 재시도 기록이 공유한다.
+ *
+ * <p>실패한 구독은 {@link WebhookDeliveryService}에 기록되어 재시도 정책에 따라
+ * {@link WebhookRetryScheduler}가 재전송한다.
  */
 @Component
 public class WebhookDispatcherImpl implements WebhookDispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(WebhookDispatcherImpl.class);
 
-    private final WebhookSubscriptionRepository subscriptionRepository;
-    private final RestTemplate restTemplate;
+    private final WebhookRoutingTable routingTable;
+    private final HttpClient httpClient;
     private final ApplicationContext applicationContext;
     private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+    private final WebhookDeliveryService deliveryService;
+    private final SubscriptionFilterCache filterCache;
+    private final int maxConcurrentPerTarget;
+    private final Duration dispatchTimeout;
+
+    /**
+     * 구독별 디스패치 실행기 (구독 하나당 Virtual Thread 하나)
+     */
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 대상(호스트/내부 메서드)별 동시 호출 제한
+     */
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
 
     public WebhookDispatcherImpl(
-            WebhookSubscriptionRepository subscriptionRepository,
-            RestTemplate restTemplate,
+            WebhookRoutingTable routingTable,
+            HttpClient webhookHttpClient,
             ApplicationContext applicationContext,
-            ObjectMapper objectMapper) {
-        this.subscriptionRepository = subscriptionRepository;
-        this.restTemplate = restTemplate;
+            ObjectMapper objectMapper,
+            WebhookDeliveryService deliveryService,
+            SubscriptionFilterCache filterCache,
+            @Value("${webhook.dispatch.max-concurrent-per-target:16}") int maxConcurrentPerTarget,
+            @Value("${webhook.dispatch.timeout:10s}") Duration dispatchTimeout) {
+        this.routingTable = routingTable;
+        this.httpClient = webhookHttpClient;
         this.applicationContext = applicationContext;
         this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(WebhookEvent.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.deliveryService = deliveryService;
+        this.filterCache = filterCache;
+        this.maxConcurrentPerTarget = maxConcurrentPerTarget;
+        this.dispatchTimeout = dispatchTimeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
     }
 
+    /**
+     * 매칭되는 구독에 동시 디스패치
+     * 구독마다 Virtual Thread에서 실행하고, 모든 구독은 같은 deadline을 공유한다.
+     * deadline을 넘긴 호출은 취소되므로 느린 대상 하나가 다른 구독이나 호출 측을 붙잡지 않는다.
+     */
     @Override
     public void dispatch(WebhookEvent event) {
-        // 매칭되는 구독 조회
-        List<WebhookSubscription> subscriptions = subscriptionRepository
-                .findMatchingSubscriptions(event.pluginId(), event.eventType(), event.connectionId());
+        // 매칭되는 구독 조회 (메모리 라우팅 테이블)
+        List<WebhookSubscription> subscriptions = routingTable
+                .match(event.pluginId(), event.eventType(), event.connectionId());
 
         log.debug("Found {} subscriptions for plugin={}, event={}, connection={}",
                 subscriptions.size(), event.pluginId(), event.eventType(), event.connectionId());
 
-        // 각 구독에 대해 디스패치
-        for (WebhookSubscription subscription : subscriptions) {
+        List<WebhookSubscription> targets = subscriptions.stream()
+                .filter(subscription -> matchesFilter(subscription, event))
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(event);
+        } catch (Exception e) {
+            log.error("Failed to serialize webhook event: plugin={}, event={}", event.pluginId(), event.eventType(), e);
+            return;
+        }
+
+        long deadline = System.nanoTime() + dispatchTimeout.toNanos();
+
+        List<Future<DispatchResult>> futures = new ArrayList<>(targets.size());
+        for (WebhookSubscription subscription : targets) {
+            futures.add(dispatchExecutor.submit(() -> dispatchWithBulkhead(subscription, event, body, deadline)));
+        }
+
+        List<DispatchResult> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            results.add(awaitResult(targets.get(i), futures.get(i), deadline));
+        }
+
+        logResults(event, results);
+        recordFailures(event, body, targets, results);
+    }
+
+    /**
+     * 재전송 (재시도 스케줄러 호출)
+     * 최초 디스패치와 동일한 bulkhead/deadline을 적용한다.
+     *
+     * @param payload 최초 디스패치 시 직렬화된 WebhookEvent JSON
+     */
+    public DispatchResult redeliver(WebhookSubscription subscription, String payload) {
+        WebhookEvent event;
+        try {
+            event = eventReader.readValue(payload);
+        } catch (Exception e) {
+            return DispatchResult.failure(subscription.getId(), describeTarget(subscription),
+                    DispatchResult.Status.FAILED, Duration.ZERO, "Invalid payload: " + e.getMessage());
+        }
+
+        // HTTP 전송은 저장된 JSON을 그대로 사용 (재직렬화하지 않음)
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + dispatchTimeout.toNanos();
+        Future<DispatchResult> future = dispatchExecutor.submit(
+                () -> dispatchWithBulkhead(subscription, event, body, deadline));
+        return awaitResult(subscription, future, deadline);
+    }
+
+    /**
+     * 실패한 구독을 재전송 대상으로 기록 (재시도는 호출 스레드에서 하지 않음)
+     */
+    private void recordFailures(WebhookEvent event, byte[] body, List<WebhookSubscription> targets,
+                                List<DispatchResult> results) {
+        String payload = null;
+        for (int i = 0; i < results.size(); i++) {
+            DispatchResult result = results.get(i);
+            if (result.isSuccess()) {
+                continue;
+            }
+            WebhookSubscription subscription = targets.get(i);
             try {
-                if (matchesFilter(subscription, event)) {
-                    dispatchToTarget(subscription, event);
+                if (payload == null) {
+                    payload = new String(body, StandardCharsets.UTF_8);
                 }
+                deliveryService.recordInitialFailure(subscription, event.eventType(), payload,
+                        result.status() + ": " + result.error());
             } catch (Exception e) {
-                log.error("Dispatch failed: subscriptionId={}, error={}",
-                        subscription.getId(), e.getMessage(), e);
-                // 실패해도 다른 구독 처리 계속
+                log.error("Failed to record webhook delivery for retry: subscriptionId={}",
+                        subscription.getId(), e);
             }
         }
     }
 
-    private boolean matchesFilter(WebhookSubscription subscription, WebhookEvent event) {
-        String filterExpr = subscription.getFilterExpr();
-        if (filterExpr == null || filterExpr.isBlank()) {
-            return true;
+    private DispatchResult dispatchWithBulkhead(WebhookSubscription subscription, WebhookEvent event, byte[] body,
+                                                long deadline) {
+        String target = describeTarget(subscription);
+        long start = System.nanoTime();
+
+        String bulkheadKey = bulkheadKey(subscription);
+        Semaphore bulkhead = bulkheads.computeIfAbsent(bulkheadKey, key -> new Semaphore(maxConcurrentPerTarget));
+        try {
+            if (!bulkhead.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return DispatchResult.failure(subscription.getId(), target, DispatchResult.Status.REJECTED,
+                        elapsedSince(start), "Concurrency limit reached: " + bulkheadKey);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DispatchResult.failure(subscription.getId(), target, DispatchResult.Status.TIMEOUT,
+                    elapsedSince(start), "Interrupted while waiting for " + bulkheadKey);
         }
 
-        // TODO: JSONPath 필터 구현
-        return true;
+        try {
+            dispatchToTarget(subscription, event, body, deadline);
+            return DispatchResult.success(subscription.getId(), target, elapsedSince(start));
+        } catch (Exception e) {
+            return DispatchResult.failure(subscription.getId(), target, DispatchResult.Status.FAILED,
+                    elapsedSince(start), e.getMessage());
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private DispatchResult awaitResult(WebhookSubscription subscription, Future<DispatchResult> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 대상 호출 중인 Virtual Thread를 인터럽트하여 소켓 대기 해제
+            future.cancel(true);
+            return DispatchResult.failure(subscription.getId(), describeTarget(subscription),
+                    DispatchResult.Status.TIMEOUT, dispatchTimeout, "Deadline exceeded: " + dispatchTimeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return DispatchResult.failure(subscription.getId(), describeTarget(subscription),
+                    DispatchResult.Status.TIMEOUT, dispatchTimeout, "Interrupted");
+        } catch (ExecutionException e) {
+            return DispatchResult.failure(subscription.getId(), describeTarget(subscription),
+                    DispatchResult.Status.FAILED, dispatchTimeout, e.getCause().getMessage());
+        }
     }
 
-    private void dispatchToTarget(WebhookSubscription subscription, WebhookEvent event) {
+    private void logResults(WebhookEvent event, List<DispatchResult> results) {
+        long succeeded = results.stream().filter(DispatchResult::isSuccess).count();
+        log.info("Dispatch completed: plugin={}, event={}, succeeded={}/{}",
+                event.pluginId(), event.eventType(), succeeded, results.size());
+
+        for (DispatchResult result : results) {
+            if (!result.isSuccess()) {
+                log.warn("Dispatch {}: subscriptionId={}, target={}, elapsed={}ms, error={}",
+                        result.status(), result.subscriptionId(), result.target(),
+                        result.elapsed().toMillis(), result.error());
+            }
+        }
+    }
+
+    /**
+     * bulkhead 키: HTTP는 대상 호스트(host:port), 내부 호출은 대상 메서드
+     */
+    private String bulkheadKey(WebhookSubscription subscription) {
+        if (subscription.getTargetType() == WebhookTargetType.INTERNAL) {
+            return "internal:" + subscription.getTargetMethod();
+        }
+        try {
+            URI uri = URI.create(subscription.getTargetUrl());
+            if (uri.getAuthority() != null) {
+                return uri.getScheme() + "://" + uri.getAuthority();
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        return String.valueOf(subscription.getTargetUrl());
+    }
+
+    private String describeTarget(WebhookSubscription subscription) {
+        return subscription.getTargetType() == WebhookTargetType.INTERNAL
+                ? subscription.getTargetMethod()
+                : subscription.getTargetUrl();
+    }
+
+    private Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    private boolean matchesFilter(WebhookSubscription subscription, WebhookEvent event) {
+        Map<String, Object> data = event.data() != null ? event.data() : Map.of();
+        try {
+            return filterCache.get(subscription).test(data);
+        } catch (RuntimeException e) {
+            log.warn("Filter evaluation failed: subscriptionId={}, error={}", subscription.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void dispatchToTarget(WebhookSubscription subscription, WebhookEvent event, byte[] body, long deadline) {
         WebhookTargetType targetType = subscription.getTargetType();
 
         switch (targetType) {
-            case HTTP -> dispatchHttp(subscription, event);
+            case HTTP -> dispatchHttp(subscription, event, body, deadline);
             case INTERNAL -> dispatchInternal(subscription, event);
         }
     }
 
-    private void dispatchHttp(WebhookSubscription subscription, WebhookEvent event) {
+    private void dispatchHttp(WebhookSubscription subscription, WebhookEvent event, byte[] body, long deadline) {
         String url = subscription.getTargetUrl();
         log.info("Dispatching to HTTP: url={}, event={}", url, event.eventType());
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            String body = objectMapper.writeValueAsString(event);
-            HttpEntity<String> request = new HttpEntity<>(body, headers);
+            URI uri = URI.create(url);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .version(httpVersion(uri))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
 
-            restTemplate.postForEntity(url, request, Void.class);
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                throw new IllegalStateException("HTTP " + response.statusCode());
+            }
             log.info("HTTP dispatch success: url={}", url);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("HTTP dispatch interrupted", e);
         } catch (Exception e) {
             log.error("HTTP dispatch failed: url={}, error={}", url, e.getMessage());
             throw new RuntimeException("HTTP dispatch failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 평문(http) 대상은 h2c 업그레이드 요청 없이 HTTP/1.1로 보내고, https 대상만 ALPN으로 HTTP/2를 협상한다.
+     */
+    private static HttpClient.Version httpVersion(URI uri) {
+        return "http".equalsIgnoreCase(uri.getScheme()) ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2;
+    }
+
     private void dispatchInternal(WebhookSubscription subscription, WebhookEvent event) {
         String targetMethod = subscription.getTargetMethod();
         log.info("Dispatching to internal: method={}, event={}", targetMethod, event.eventType());
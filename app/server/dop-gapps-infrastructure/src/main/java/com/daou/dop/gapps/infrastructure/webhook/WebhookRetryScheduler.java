@@ -0,0 +1,100 @@
+package com.daou.dop.gapps.infrastructure.webhook;
+
+import com.daou.dop.gapps.core.repository.WebhookSubscriptionRepository;
+import com.daou.dop.gapps.core.webhook.WebhookDeliveryService;
+import com.daou.dop.gapps.domain.webhook.WebhookDelivery;
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 웹훅 재전송 스케줄러
+ *
+ * <p>주기적으로 재시도 시간이 도래한 delivery를 배치로 점유하여 재전송한다.
+ * 점유는 SKIP LOCKED 기반이므로 여러 노드에서 동시에 실행해도 같은 건을 중복 처리하지 않는다.
+ */
+@Component
+public class WebhookRetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookRetryScheduler.class);
+
+    private final WebhookDeliveryService deliveryService;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDispatcherImpl dispatcher;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public WebhookRetryScheduler(
+            WebhookDeliveryService deliveryService,
+            WebhookSubscriptionRepository subscriptionRepository,
+            WebhookDispatcherImpl dispatcher,
+            @Value("${webhook.retry.enabled:true}") boolean enabled,
+            @Value("${webhook.retry.batch-size:100}") int batchSize) {
+        this.deliveryService = deliveryService;
+        this.subscriptionRepository = subscriptionRepository;
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.retry.poll-interval:5s}")
+    public void retryDueDeliveries() {
+        if (!enabled) {
+            return;
+        }
+
+        List<WebhookDelivery> due;
+        try {
+            due = deliveryService.claimDue(batchSize);
+        } catch (Exception e) {
+            log.error("Failed to claim webhook deliveries", e);
+            return;
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        log.debug("Retrying {} webhook deliveries", due.size());
+
+        // 배치 내 재전송은 동시에 수행 (대상별 제한/deadline은 디스패처가 적용)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (WebhookDelivery delivery : due) {
+                executor.execute(() -> retry(delivery));
+            }
+        }
+    }
+
+    private void retry(WebhookDelivery delivery) {
+        try {
+            // 구독이 삭제되면 subscription_id가 NULL로 남는다
+            WebhookSubscription subscription = Optional.ofNullable(delivery.getSubscriptionId())
+                    .flatMap(subscriptionRepository::findById)
+                    .filter(WebhookSubscription::isEnabled)
+                    .orElse(null);
+
+            if (subscription == null) {
+                deliveryService.markDead(delivery.getId(), "Subscription not found or disabled");
+                return;
+            }
+
+            DispatchResult result = dispatcher.redeliver(subscription, delivery.getPayload());
+            if (result.isSuccess()) {
+                deliveryService.markSucceeded(delivery.getId());
+            } else {
+                log.warn("Webhook redelivery failed: deliveryId={}, subscriptionId={}, attempt={}, status={}, error={}",
+                        delivery.getId(), subscription.getId(), delivery.getAttempts(), result.status(), result.error());
+                deliveryService.markFailed(delivery.getId(), result.status() + ": " + result.error());
+            }
+        } catch (Exception e) {
+            log.error("Webhook redelivery error: deliveryId={}", delivery.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.daou.dop.gapps.infrastructure.webhook.filter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 구독 필터 표현식 컴파일러
+ *
+ * <p>JSONPath 스타일 경로와 비교/논리 연산으로 구성된 표현식을 한 번 파싱하여
+ * 재사용 가능한 {@link FilterPredicate}로 변환한다. 평가 시에는 미리 분해된 경로로
+ * {@code WebhookEvent.data}의 Map/List를 직접 탐색하므로 파싱이나 직렬화가 일어나지 않는다.
+ *
+ * <p>문법
+ * <pre>
+ * expr       := or
+ * or         := and ('||' and)*
+ * and        := unary ('&&' unary)*
+ * unary      := '!' unary | '(' expr ')' | comparison
+ * comparison := operand (('==' | '!=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;=') operand
+ *                       | '=~' string
+ *                       | 'in' '[' literal (',' literal)* ']')?
+ * operand    := path | literal
+ * path       := '$' ('.' name | '[' index ']' | '[' string ']')*
+ * literal    := string | number | true | false | null
+ * </pre>
+ *
+ * <p>예시
+ * <pre>
+ * $.issue.fields.priority.name == 'High'
+ * $.event.type in ['message', 'app_mention'] &amp;&amp; !$.event.bot_id
+ * $.changelog.items[0].field =~ '^status$' || $.issue.fields.votes &gt;= 10
+ * </pre>
+ *
+ * <p>단독 operand는 값이 존재하고 false가 아니면 참이다. 존재하지 않는 경로는 null로 평가한다.
+ * 정수끼리는 long으로, 정수와 소수가 섞이면 BigDecimal로 비교하므로 2^53을 넘는 ID도 정확히 구분된다.
+ */
+public final class FilterExpressionCompiler {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private FilterExpressionCompiler() {
+    }
+
+    /**
+     * 표현식 컴파일
+     *
+     * @throws FilterExpressionException 문법 오류
+     */
+    public static FilterPredicate compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return FilterPredicate.ALWAYS;
+        }
+        Parser parser = new Parser(expression, new Lexer(expression).tokenize());
+        return parser.parse();
+    }
+
+    // ========== 평가 ==========
+
+    /**
+     * 값 조회 (경로 또는 상수)
+     */
+    private interface Operand {
+        Object resolve(Map<String, Object> data);
+    }
+
+    private record Literal(Object value) implements Operand {
+        @Override
+        public Object resolve(Map<String, Object> data) {
+            return value;
+        }
+    }
+
+    /**
+     * 분해된 경로 (String: Map 키, Integer: List 인덱스)
+     */
+    private record Path(Object[] segments) implements Operand {
+        @Override
+        public Object resolve(Map<String, Object> data) {
+            Object current = data;
+            for (Object segment : segments) {
+                if (segment instanceof String key) {
+                    if (!(current instanceof Map<?, ?> map)) {
+                        return null;
+                    }
+                    current = map.get(key);
+                } else {
+                    int index = (Integer) segment;
+                    if (!(current instanceof List<?> list) || index < 0 || index >= list.size()) {
+                        return null;
+                    }
+                    current = list.get(index);
+                }
+                if (current == null) {
+                    return null;
+                }
+            }
+            return current;
+        }
+    }
+
+    private static boolean isTruthy(Object value) {
+        return value != null && !Boolean.FALSE.equals(value);
+    }
+
+    private static boolean valueEquals(Object left, Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return compareNumbers(l, r) == 0;
+        }
+        return Objects.equals(left, right);
+    }
+
+    /**
+     * 순서 비교 (숫자끼리, 문자열끼리만 허용, 그 외는 비교 불가로 null)
+     */
+    private static Integer compareValues(Object left, Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return compareNumbers(l, r);
+        }
+        if (left instanceof String l && right instanceof String r) {
+            return l.compareTo(r);
+        }
+        return null;
+    }
+
+    /**
+     * 숫자 비교 (정수끼리는 long, 소수끼리는 double, 섞이면 BigDecimal로 정밀도 손실 없이 비교)
+     */
+    private static int compareNumbers(Number left, Number right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return Long.compare(left.longValue(), right.longValue());
+        }
+        if (isFloating(left) && isFloating(right)) {
+            return Double.compare(left.doubleValue(), right.doubleValue());
+        }
+        BigDecimal l = toBigDecimal(left);
+        BigDecimal r = toBigDecimal(right);
+        if (l == null || r == null) {
+            return Double.compare(left.doubleValue(), right.doubleValue());
+        }
+        return l.compareTo(r);
+    }
+
+    /**
+     * in 연산용 정규화 (같은 값이면 숫자 타입과 관계없이 같은 키)
+     * 정수로 표현되는 값은 Long, 그 외는 trailing zero를 제거한 BigDecimal, NaN/Infinity는 Double
+     */
+    private static Object normalize(Object value) {
+        if (!(value instanceof Number n)) {
+            return value;
+        }
+        if (isIntegral(n)) {
+            return n.longValue();
+        }
+        BigDecimal decimal = toBigDecimal(n);
+        if (decimal == null) {
+            return n.doubleValue();
+        }
+        decimal = decimal.stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.compareTo(LONG_MIN) >= 0 && decimal.compareTo(LONG_MAX) <= 0) {
+            return decimal.longValue();
+        }
+        return decimal;
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+    }
+
+    private static boolean isFloating(Number n) {
+        return n instanceof Double || n instanceof Float;
+    }
+
+    /**
+     * 정확한 BigDecimal 변환 (NaN/Infinity 등 표현할 수 없으면 null)
+     */
+    private static BigDecimal toBigDecimal(Number n) {
+        if (n instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (n instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        if (isIntegral(n)) {
+            return BigDecimal.valueOf(n.longValue());
+        }
+        if (isFloating(n)) {
+            double d = n.doubleValue();
+            return Double.isFinite(d) ? new BigDecimal(d) : null;
+        }
+        try {
+            return new BigDecimal(n.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ========== 토큰 ==========
+
+    private enum TokenType {
+        PATH, STRING, NUMBER, TRUE, FALSE, NULL,
+        EQ, NE, LT, LE, GT, GE, MATCH, IN,
+        AND, OR, NOT,
+        LPAREN, RPAREN, LBRACKET, RBRACKET, COMMA,
+        EOF
+    }
+
+    private record Token(TokenType type, Object value, int position) {
+    }
+
+    private static final class Lexer {
+
+        private final String input;
+        private int pos;
+
+        Lexer(String input) {
+            this.input = input;
+        }
+
+        List<Token> tokenize() {
+            List<Token> tokens = new ArrayList<>();
+            while (true) {
+                skipWhitespace();
+                if (pos >= input.length()) {
+                    tokens.add(new Token(TokenType.EOF, null, pos));
+                    return tokens;
+                }
+                tokens.add(next());
+            }
+        }
+
+        private Token next() {
+            int start = pos;
+            char c = input.charAt(pos);
+            switch (c) {
+                case '$':
+                    return new Token(TokenType.PATH, readPath(), start);
+                case '\'':
+                case '"':
+                    return new Token(TokenType.STRING, readString(), start);
+                case '(':
+                    pos++;
+                    return new Token(TokenType.LPAREN, null, start);
+                case ')':
+                    pos++;
+                    return new Token(TokenType.RPAREN, null, start);
+                case '[':
+                    pos++;
+                    return new Token(TokenType.LBRACKET, null, start);
+                case ']':
+                    pos++;
+                    return new Token(TokenType.RBRACKET, null, start);
+                case ',':
+                    pos++;
+                    return new Token(TokenType.COMMA, null, start);
+                default:
+                    break;
+            }
+
+            if (match("&&")) return new Token(TokenType.AND, null, start);
+            if (match("||")) return new Token(TokenType.OR, null, start);
+            if (match("==")) return new Token(TokenType.EQ, null, start);
+            if (match("!=")) return new Token(TokenType.NE, null, start);
+            if (match("=~")) return new Token(TokenType.MATCH, null, start);
+            if (match("<=")) return new Token(TokenType.LE, null, start);
+            if (match(">=")) return new Token(TokenType.GE, null, start);
+            if (match("<")) return new Token(TokenType.LT, null, start);
+            if (match(">")) return new Token(TokenType.GT, null, start);
+            if (match("!")) return new Token(TokenType.NOT, null, start);
+
+            if (c == '-' || Character.isDigit(c)) {
+                return new Token(TokenType.NUMBER, readNumber(), start);
+            }
+            if (Character.isLetter(c)) {
+                String word = readName();
+                return switch (word) {
+                    case "true" -> new Token(TokenType.TRUE, Boolean.TRUE, start);
+                    case "false" -> new Token(TokenType.FALSE, Boolean.FALSE, start);
+                    case "null" -> new Token(TokenType.NULL, null, start);
+                    case "in" -> new Token(TokenType.IN, null, start);
+                    default -> throw error("Unexpected word '" + word + "'", start);
+                };
+            }
+            throw error("Unexpected character '" + c + "'", start);
+        }
+
+        private Object[] readPath() {
+            pos++; // '$'
+            List<Object> segments = new ArrayList<>();
+            while (pos < input.length()) {
+                char c = input.charAt(pos);
+                if (c == '.') {
+                    pos++;
+                    String name = readName();
+                    if (name.isEmpty()) {
+                        throw error("Expected property name", pos);
+                    }
+                    segments.add(name);
+                } else if (c == '[') {
+                    pos++;
+                    skipWhitespace();
+                    char first = peek();
+                    if (first == '\'' || first == '"') {
+                        segments.add(readString());
+                    } else {
+                        Number index = readNumber();
+                        if (!(index instanceof Long l) || l < 0 || l > Integer.MAX_VALUE) {
+                            throw error("Invalid array index", pos);
+                        }
+                        segments.add(l.intValue());
+                    }
+                    skipWhitespace();
+                    if (peek() != ']') {
+                        throw error("Expected ']'", pos);
+                    }
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            return segments.toArray();
+        }
+
+        private String readName() {
+            int start = pos;
+            while (pos < input.length()) {
+                char c = input.charAt(pos);
+                if (Character.isLetterOrDigit(c) || c == '_' || c == '-') {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            return input.substring(start, pos);
+        }
+
+        private String readString() {
+            char quote = input.charAt(pos++);
+            StringBuilder sb = new StringBuilder();
+            while (pos < input.length()) {
+                char c = input.charAt(pos++);
+                if (c == quote) {
+                    return sb.toString();
+                }
+                if (c == '\\' && pos < input.length()) {
+                    c = input.charAt(pos++);
+                }
+                sb.append(c);
+            }
+            throw error("Unterminated string", pos);
+        }
+
+        private Number readNumber() {
+            int start = pos;
+            if (peek() == '-') {
+                pos++;
+            }
+            boolean decimal = false;
+            while (pos < input.length()) {
+                char c = input.charAt(pos);
+                if (Character.isDigit(c)) {
+                    pos++;
+                } else if (c == '.' && !decimal) {
+                    decimal = true;
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            String text = input.substring(start, pos);
+            try {
+                return decimal ? (Number) Double.parseDouble(text) : (Number) Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + text + "'", start);
+            }
+        }
+
+        private boolean match(String symbol) {
+            if (input.startsWith(symbol, pos)) {
+                pos += symbol.length();
+                return true;
+            }
+            return false;
+        }
+
+        private char peek() {
+            return pos < input.length() ? input.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private FilterExpressionException error(String message, int position) {
+            return new FilterExpressionException(message, input, position);
+        }
+    }
+
+    // ========== 파서 ==========
+
+    private static final class Parser {
+
+        private final String expression;
+        private final List<Token> tokens;
+        private int index;
+
+        Parser(String expression, List<Token> tokens) {
+            this.expression = expression;
+            this.tokens = tokens;
+        }
+
+        FilterPredicate parse() {
+            FilterPredicate predicate = parseOr();
+            expect(TokenType.EOF);
+            return predicate;
+        }
+
+        private FilterPredicate parseOr() {
+            FilterPredicate left = parseAnd();
+            while (accept(TokenType.OR)) {
+                FilterPredicate l = left;
+                FilterPredicate r = parseAnd();
+                left = data -> l.test(data) || r.test(data);
+            }
+            return left;
+        }
+
+        private FilterPredicate parseAnd() {
+            FilterPredicate left = parseUnary();
+            while (accept(TokenType.AND)) {
+                FilterPredicate l = left;
+                FilterPredicate r = parseUnary();
+                left = data -> l.test(data) && r.test(data);
+            }
+            return left;
+        }
+
+        private FilterPredicate parseUnary() {
+            if (accept(TokenType.NOT)) {
+                FilterPredicate inner = parseUnary();
+                return data -> !inner.test(data);
+            }
+            if (accept(TokenType.LPAREN)) {
+                FilterPredicate inner = parseOr();
+                expect(TokenType.RPAREN);
+                return inner;
+            }
+            return parseComparison();
+        }
+
+        private FilterPredicate parseComparison() {
+            Operand left = parseOperand();
+            Token op = current();
+
+            switch (op.type()) {
+                case EQ, NE, LT, LE, GT, GE -> {
+                    index++;
+                    Operand right = parseOperand();
+                    return comparison(op.type(), left, right);
+                }
+                case MATCH -> {
+                    index++;
+                    Token pattern = expect(TokenType.STRING);
+                    Pattern regex;
+                    try {
+                        regex = Pattern.compile((String) pattern.value());
+                    } catch (PatternSyntaxException e) {
+                        throw new FilterExpressionException("Invalid regex: " + e.getDescription(),
+                                expression, pattern.position());
+                    }
+                    return data -> {
+                        Object value = left.resolve(data);
+                        return value != null && regex.matcher(value.toString()).find();
+                    };
+                }
+                case IN -> {
+                    index++;
+                    Set<Object> candidates = parseLiteralList();
+                    return data -> candidates.contains(normalize(left.resolve(data)));
+                }
+                default -> {
+                    return data -> isTruthy(left.resolve(data));
+                }
+            }
+        }
+
+        private FilterPredicate comparison(TokenType type, Operand left, Operand right) {
+            return switch (type) {
+                case EQ -> data -> valueEquals(left.resolve(data), right.resolve(data));
+                case NE -> data -> !valueEquals(left.resolve(data), right.resolve(data));
+                case LT -> data -> {
+                    Integer c = compareValues(left.resolve(data), right.resolve(data));
+                    return c != null && c < 0;
+                };
+                case LE -> data -> {
+                    Integer c = compareValues(left.resolve(data), right.resolve(data));
+                    return c != null && c <= 0;
+                };
+                case GT -> data -> {
+                    Integer c = compareValues(left.resolve(data), right.resolve(data));
+                    return c != null && c > 0;
+                };
+                case GE -> data -> {
+                    Integer c = compareValues(left.resolve(data), right.resolve(data));
+                    return c != null && c >= 0;
+                };
+                default -> throw new IllegalStateException("Not a comparison: " + type);
+            };
+        }
+
+        private Operand parseOperand() {
+            Token token = current();
+            index++;
+            return switch (token.type()) {
+                case PATH -> new Path((Object[]) token.value());
+                case STRING, NUMBER, TRUE, FALSE, NULL -> new Literal(token.value());
+                default -> throw new FilterExpressionException(
+                        "Expected path or literal but found " + token.type(), expression, token.position());
+            };
+        }
+
+        private Set<Object> parseLiteralList() {
+            expect(TokenType.LBRACKET);
+            Set<Object> values = new HashSet<>();
+            if (accept(TokenType.RBRACKET)) {
+                return values;
+            }
+            do {
+                Token token = current();
+                index++;
+                switch (token.type()) {
+                    case STRING, NUMBER, TRUE, FALSE, NULL -> values.add(normalize(token.value()));
+                    default -> throw new FilterExpressionException(
+                            "Expected literal but found " + token.type(), expression, token.position());
+                }
+            } while (accept(TokenType.COMMA));
+            expect(TokenType.RBRACKET);
+            return values;
+        }
+
+        private Token current() {
+            return tokens.get(index);
+        }
+
+        private boolean accept(TokenType type) {
+            if (current().type() == type) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private Token expect(TokenType type) {
+            Token token = current();
+            if (token.type() != type) {
+                throw new FilterExpressionException(
+                        "Expected " + type + " but found " + token.type(), expression, token.position());
+            }
+            index++;
+            return token;
+        }
+    }
+}
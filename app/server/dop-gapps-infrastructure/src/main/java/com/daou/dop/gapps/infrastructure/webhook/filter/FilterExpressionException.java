@@ -0,0 +1,11 @@
+package com.daou.dop.gapps.infrastructure.webhook.filter;
+
+/**
+ * 필터 표현식 문법 오류
+ */
+public class FilterExpressionException extends RuntimeException {
+
+    public FilterExpressionException(String message, String expression, int position) {
+        super(message + " at position " + position + ": " + expression);
+    }
+}
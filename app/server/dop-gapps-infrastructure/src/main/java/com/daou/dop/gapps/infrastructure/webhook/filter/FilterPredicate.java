@@ -0,0 +1,16 @@
+package com.daou.dop.gapps.infrastructure.webhook.filter;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 구독 필터
+ * {@code WebhookEvent.data}를 직렬화 없이 그대로 평가한다.
+ */
+@FunctionalInterface
+public interface FilterPredicate {
+
+    FilterPredicate ALWAYS = data -> true;
+    FilterPredicate NEVER = data -> false;
+
+    boolean test(Map<String, Object> data);
+}
@@ -0,0 +1,79 @@
+package com.daou.dop.gapps.infrastructure.webhook.filter;
+
+import com.daou.dop.gapps.domain.webhook.WebhookSubscription;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 구독별 컴파일된 필터 캐시
+ *
+ * <p>구독 ID 기준으로 캐시하고, 구독 버전(updatedAt, 없으면 createdAt)이나 표현식이 바뀌면 다시 컴파일한다.
+ * 문법 오류가 있는 필터는 구독 버전당 한 번만 경고를 남기고 모든 이벤트를 거른다(fail-closed).
+ *
+ * <p>삭제/비활성화된 구독은 더 이상 조회되지 않으므로 {@code expire-after-access}가 지나면 제거되고,
+ * 전체 크기는 {@code maximum-size}로 제한한다. 변경된 구독은 버전 비교로 다시 컴파일되므로 별도 무효화가 필요 없다.
+ */
+@Component
+public class SubscriptionFilterCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionFilterCache.class);
+
+    private final Cache<Long, CompiledFilter> filters;
+
+    public SubscriptionFilterCache(
+            @Value("${webhook.dispatch.filter-cache.maximum-size:10000}") long maximumSize,
+            @Value("${webhook.dispatch.filter-cache.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.filters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 구독 필터 조회 (없거나 버전이 바뀌었으면 컴파일)
+     */
+    public FilterPredicate get(WebhookSubscription subscription) {
+        String expression = subscription.getFilterExpr();
+        if (expression == null || expression.isBlank()) {
+            return FilterPredicate.ALWAYS;
+        }
+
+        Instant version = versionOf(subscription);
+        CompiledFilter cached = filters.getIfPresent(subscription.getId());
+        if (cached != null && cached.matches(version, expression)) {
+            return cached.predicate();
+        }
+
+        CompiledFilter compiled = new CompiledFilter(version, expression, compile(subscription.getId(), expression));
+        filters.put(subscription.getId(), compiled);
+        return compiled.predicate();
+    }
+
+    private FilterPredicate compile(Long subscriptionId, String expression) {
+        try {
+            return FilterExpressionCompiler.compile(expression);
+        } catch (FilterExpressionException e) {
+            log.warn("Invalid webhook filter, events will be skipped: subscriptionId={}, error={}",
+                    subscriptionId, e.getMessage());
+            return FilterPredicate.NEVER;
+        }
+    }
+
+    private Instant versionOf(WebhookSubscription subscription) {
+        return subscription.getUpdatedAt() != null ? subscription.getUpdatedAt() : subscription.getCreatedAt();
+    }
+
+    private record CompiledFilter(Instant version, String expression, FilterPredicate predicate) {
+        boolean matches(Instant otherVersion, String otherExpression) {
+            return Objects.equals(version, otherVersion) && expression.equals(otherExpression);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- V10: 선제 토큰 갱신 스캔용 인덱스
+-- refresh token이 있는 행만 만료 시간 순으로 조회하므로 부분 인덱스로 교체
+
+DROP INDEX IF EXISTS idx_oauth_credential_expires;
+
+CREATE INDEX idx_oauth_credential_refreshable ON oauth_credential(expires_at)
+    WHERE refresh_token IS NOT NULL;
@@ -0,0 +1,11 @@
+-- ===================================================================
+-- DOP Global Apps - plugin 변경 추적
+-- V11: 플러그인 설정 메모리 스냅샷 무효화용 change_version('plugin')
+-- ===================================================================
+
+INSERT INTO change_version (name) VALUES ('plugin');
+
+CREATE TRIGGER trg_plugin_change_version
+    AFTER INSERT OR UPDATE OR DELETE ON plugin
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_change_version('plugin');
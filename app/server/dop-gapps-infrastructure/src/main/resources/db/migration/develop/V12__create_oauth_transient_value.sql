@@ -0,0 +1,22 @@
+-- ===================================================================
+-- DOP Global Apps - OAuth 임시 값 저장소
+-- V12: oauth_transient_value (여러 노드가 공유하는 state / PKCE code_verifier)
+-- ===================================================================
+
+-- 수명이 수 분인 일회성 값이라 WAL을 남기지 않는다 (장애 시 유실되면 OAuth를 다시 시작하면 됨)
+CREATE UNLOGGED TABLE oauth_transient_value (
+    namespace VARCHAR(20) NOT NULL,
+    value_key VARCHAR(300) NOT NULL,
+    value TEXT NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (namespace, value_key)
+);
+
+-- 만료 항목 일괄 삭제용
+CREATE INDEX idx_oauth_transient_value_expires ON oauth_transient_value(expires_at);
+
+COMMENT ON TABLE oauth_transient_value IS 'OAuth 임시 값 저장소 (oauth.storage.type=jdbc)';
+COMMENT ON COLUMN oauth_transient_value.namespace IS '값 종류 (state, pkce)';
+COMMENT ON COLUMN oauth_transient_value.value_key IS '조회 키 (state: pluginId:state, pkce: state)';
+COMMENT ON COLUMN oauth_transient_value.value IS '저장 값';
+COMMENT ON COLUMN oauth_transient_value.expires_at IS '만료 시간 (이후 조회 불가, 주기적으로 삭제)';
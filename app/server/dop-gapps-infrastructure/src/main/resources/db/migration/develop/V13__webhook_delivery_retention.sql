@@ -0,0 +1,19 @@
+-- ===================================================================
+-- DOP Global Apps - 웹훅 재전송 보존 정책
+-- V13: 구독 삭제 시 재전송 이력 유지 (ON DELETE SET NULL), 완료 건 정리용 인덱스
+-- ===================================================================
+
+-- 구독이 삭제되어도 DEAD/SUCCEEDED 이력은 남긴다 (보존 기간이 지나면 스케줄러가 삭제)
+ALTER TABLE webhook_delivery ALTER COLUMN subscription_id DROP NOT NULL;
+
+ALTER TABLE webhook_delivery DROP CONSTRAINT webhook_delivery_subscription_id_fkey;
+
+ALTER TABLE webhook_delivery
+    ADD CONSTRAINT webhook_delivery_subscription_id_fkey
+    FOREIGN KEY (subscription_id) REFERENCES webhook_subscription(id) ON DELETE SET NULL;
+
+-- 보존 기간이 지난 완료 건(SUCCEEDED/DEAD) 삭제용
+CREATE INDEX idx_webhook_delivery_finished ON webhook_delivery(status, updated_at)
+    WHERE status IN ('SUCCEEDED', 'DEAD');
+
+COMMENT ON COLUMN webhook_delivery.subscription_id IS '대상 구독 ID (구독 삭제 시 NULL)';
@@ -0,0 +1,52 @@
+-- ===================================================================
+-- DOP Global Apps - webhook_event_log 파티션 생성 동시성/기본 파티션 정리
+-- V14: 파티션 생성을 advisory lock으로 직렬화하고,
+--      기본 파티션에 들어간 해당 일 행을 새 파티션으로 옮긴다
+-- ===================================================================
+
+-- ===================================================================
+-- 일 단위 파티션 생성 함수 (UTC 기준, 이미 있으면 무시)
+-- - 여러 노드가 동시에 호출해도 잠금으로 직렬화되어 duplicate_table이 나지 않는다
+-- - 기본 파티션에 해당 일 행이 있으면 CREATE가 실패하므로 먼저 빼냈다가 새 파티션에 다시 넣는다
+-- ===================================================================
+CREATE OR REPLACE FUNCTION create_webhook_event_log_partition(p_day DATE) RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := 'webhook_event_log_p' || to_char(p_day, 'YYYYMMDD');
+    day_start TIMESTAMP WITH TIME ZONE := p_day::timestamp AT TIME ZONE 'UTC';
+    day_end TIMESTAMP WITH TIME ZONE := (p_day + 1)::timestamp AT TIME ZONE 'UTC';
+    has_default_rows BOOLEAN;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtextextended('webhook_event_log_partition', 0));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT EXISTS (
+        SELECT 1 FROM webhook_event_log_default
+        WHERE created_at >= day_start AND created_at < day_end
+    ) INTO has_default_rows;
+
+    IF has_default_rows THEN
+        CREATE TEMP TABLE webhook_event_log_sweep (LIKE webhook_event_log) ON COMMIT DROP;
+
+        WITH moved AS (
+            DELETE FROM webhook_event_log_default
+            WHERE created_at >= day_start AND created_at < day_end
+            RETURNING *
+        )
+        INSERT INTO webhook_event_log_sweep SELECT * FROM moved;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF webhook_event_log FOR VALUES FROM (%L) TO (%L)',
+        partition_name, day_start, day_end);
+
+    IF has_default_rows THEN
+        INSERT INTO webhook_event_log SELECT * FROM webhook_event_log_sweep;
+        DROP TABLE webhook_event_log_sweep;
+    END IF;
+
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,24 @@
+-- ===================================================================
+-- DOP Global Apps - 인증 정보 캐시 노드 간 무효화
+-- V15: change_version('credential')
+--      연동 상태 변경/삭제, API Key 교체/삭제, OAuth 인증 정보 삭제 시 증가
+--      (토큰 갱신 UPDATE는 제외 - 이전 access token은 만료 전까지 유효하고
+--       캐시 TTL이 토큰 만료 시각을 넘지 않으므로 전체 무효화할 필요가 없다)
+-- ===================================================================
+
+INSERT INTO change_version (name) VALUES ('credential');
+
+CREATE TRIGGER trg_plugin_connection_change_version
+    AFTER UPDATE OR DELETE ON plugin_connection
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_change_version('credential');
+
+CREATE TRIGGER trg_apikey_credential_change_version
+    AFTER UPDATE OR DELETE ON apikey_credential
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_change_version('credential');
+
+CREATE TRIGGER trg_oauth_credential_change_version
+    AFTER DELETE ON oauth_credential
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_change_version('credential');
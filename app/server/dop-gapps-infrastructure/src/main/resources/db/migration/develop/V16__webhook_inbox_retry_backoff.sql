@@ -0,0 +1,9 @@
+-- ===================================================================
+-- DOP Global Apps - 웹훅 수신함 재시도 지연
+-- V16: webhook_inbox.next_attempt_at (실패 항목은 지수 백오프 후 재점유)
+-- ===================================================================
+
+ALTER TABLE webhook_inbox
+    ADD COLUMN next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW();
+
+COMMENT ON COLUMN webhook_inbox.next_attempt_at IS '다음 처리 가능 시간 (실패 시 지수 백오프로 연기)';
@@ -0,0 +1,33 @@
+-- ===================================================================
+-- DOP Global Apps - 웹훅 수신함 테이블 생성
+-- V3: webhook_inbox (비동기 수신 모드용 내구성 큐)
+-- ===================================================================
+
+-- ===================================================================
+-- webhook_inbox: 웹훅 수신함 테이블
+-- ===================================================================
+CREATE TABLE webhook_inbox (
+    id BIGSERIAL PRIMARY KEY,
+    plugin_id VARCHAR(50) NOT NULL,
+    connection_id BIGINT,
+    payload TEXT NOT NULL,
+    headers TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    locked_at TIMESTAMP WITH TIME ZONE,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_webhook_inbox_status ON webhook_inbox(status, id);
+CREATE INDEX idx_webhook_inbox_received ON webhook_inbox(status, received_at);
+
+COMMENT ON TABLE webhook_inbox IS '웹훅 수신함 테이블 (비동기 수신 모드)';
+COMMENT ON COLUMN webhook_inbox.plugin_id IS '플러그인 ID';
+COMMENT ON COLUMN webhook_inbox.connection_id IS '연동 ID (URL에 명시된 경우)';
+COMMENT ON COLUMN webhook_inbox.payload IS '원본 페이로드';
+COMMENT ON COLUMN webhook_inbox.headers IS '수신 HTTP 헤더 JSON';
+COMMENT ON COLUMN webhook_inbox.status IS '처리 상태 (PENDING, PROCESSING, FAILED)';
+COMMENT ON COLUMN webhook_inbox.attempts IS '처리 시도 횟수';
+COMMENT ON COLUMN webhook_inbox.locked_at IS '워커 점유 시간 (lease 만료 시 재점유)';
+COMMENT ON COLUMN webhook_inbox.received_at IS '수신 시간';
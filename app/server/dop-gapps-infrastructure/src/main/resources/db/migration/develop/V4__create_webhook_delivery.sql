@@ -0,0 +1,36 @@
+-- ===================================================================
+-- DOP Global Apps - 웹훅 재전송 테이블 생성
+-- V4: webhook_delivery (구독 디스패치 실패 재시도 / dead-letter)
+-- ===================================================================
+
+-- ===================================================================
+-- webhook_delivery: 웹훅 재전송 테이블
+-- ===================================================================
+CREATE TABLE webhook_delivery (
+    id BIGSERIAL PRIMARY KEY,
+    subscription_id BIGINT NOT NULL REFERENCES webhook_subscription(id) ON DELETE CASCADE,
+    plugin_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(100),
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 1,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    locked_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_webhook_delivery_due ON webhook_delivery(status, next_attempt_at);
+CREATE INDEX idx_webhook_delivery_subscription ON webhook_delivery(subscription_id);
+
+COMMENT ON TABLE webhook_delivery IS '웹훅 재전송 테이블';
+COMMENT ON COLUMN webhook_delivery.subscription_id IS '대상 구독 ID';
+COMMENT ON COLUMN webhook_delivery.plugin_id IS '플러그인 ID';
+COMMENT ON COLUMN webhook_delivery.event_type IS '이벤트 타입';
+COMMENT ON COLUMN webhook_delivery.payload IS '전송 본문 (WebhookEvent JSON)';
+COMMENT ON COLUMN webhook_delivery.status IS '상태 (PENDING_RETRY, IN_FLIGHT, SUCCEEDED, DEAD)';
+COMMENT ON COLUMN webhook_delivery.attempts IS '전송 시도 횟수 (최초 디스패치 포함)';
+COMMENT ON COLUMN webhook_delivery.next_attempt_at IS '다음 재시도 시간';
+COMMENT ON COLUMN webhook_delivery.last_error IS '마지막 실패 사유';
+COMMENT ON COLUMN webhook_delivery.locked_at IS '스케줄러 점유 시간 (lease 만료 시 재점유)';
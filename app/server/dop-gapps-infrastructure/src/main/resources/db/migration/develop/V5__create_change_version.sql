@@ -0,0 +1,38 @@
+-- ===================================================================
+-- DOP Global Apps - 변경 버전 테이블 생성
+-- V5: change_version (노드 간 메모리 캐시 무효화용 변경 카운터)
+-- ===================================================================
+
+-- ===================================================================
+-- change_version: 변경 버전 테이블
+-- ===================================================================
+CREATE TABLE change_version (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE change_version IS '변경 버전 테이블 (캐시 무효화용)';
+COMMENT ON COLUMN change_version.name IS '대상 이름';
+COMMENT ON COLUMN change_version.version IS '변경 카운터 (트리거가 증가)';
+
+-- 대상 테이블 변경 시 버전 증가 (인자: change_version.name)
+CREATE OR REPLACE FUNCTION bump_change_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE change_version
+    SET version = version + 1,
+        updated_at = NOW()
+    WHERE name = TG_ARGV[0];
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ===================================================================
+-- webhook_subscription 변경 추적
+-- ===================================================================
+INSERT INTO change_version (name) VALUES ('webhook_subscription');
+
+CREATE TRIGGER trg_webhook_subscription_change_version
+    AFTER INSERT OR UPDATE OR DELETE ON webhook_subscription
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION bump_change_version('webhook_subscription');
@@ -0,0 +1,10 @@
+-- ===================================================================
+-- DOP Global Apps - webhook_event_log ID 시퀀스 변경
+-- V6: 시퀀스 증가폭을 Hibernate allocationSize(50)와 맞춰 INSERT 배치 허용
+-- ===================================================================
+
+ALTER SEQUENCE webhook_event_log_id_seq INCREMENT BY 50;
+
+-- pooled optimizer는 nextval 값을 블록 상한으로 사용 (nextval - 49 ~ nextval)
+-- 기존 ID와 겹치지 않도록 다음 nextval이 현재 최대값 + 50이 되게 재설정
+SELECT setval('webhook_event_log_id_seq', COALESCE((SELECT MAX(id) FROM webhook_event_log), 0) + 50, false);
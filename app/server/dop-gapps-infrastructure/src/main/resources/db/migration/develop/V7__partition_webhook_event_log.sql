@@ -0,0 +1,89 @@
+-- ===================================================================
+-- DOP Global Apps - webhook_event_log 일 단위 파티셔닝
+-- V7: created_at 기준 RANGE 파티션 테이블로 전환
+--     보존 기간 정리는 DELETE 대신 파티션 DROP으로 수행
+--     (WebhookEventLogPartitionManager가 미래 파티션 생성/만료 파티션 삭제)
+-- ===================================================================
+
+-- 기존 테이블 삭제 시 시퀀스가 함께 삭제되지 않도록 소유 관계 해제
+ALTER SEQUENCE webhook_event_log_id_seq OWNED BY NONE;
+
+ALTER TABLE webhook_event_log RENAME TO webhook_event_log_legacy;
+DROP INDEX IF EXISTS idx_webhook_log_plugin;
+DROP INDEX IF EXISTS idx_webhook_log_connection;
+DROP INDEX IF EXISTS idx_webhook_log_status;
+DROP INDEX IF EXISTS idx_webhook_log_created;
+
+-- ===================================================================
+-- webhook_event_log: 파티션 부모 테이블 (PK에 파티션 키 포함)
+-- ===================================================================
+CREATE TABLE webhook_event_log (
+    id BIGINT NOT NULL DEFAULT nextval('webhook_event_log_id_seq'),
+    plugin_id VARCHAR(50) NOT NULL,
+    connection_id BIGINT REFERENCES plugin_connection(id),
+    event_type VARCHAR(100),
+    external_id VARCHAR(100),
+    payload TEXT,
+    status VARCHAR(20) NOT NULL,
+    error_message TEXT,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE webhook_event_log_id_seq OWNED BY webhook_event_log.id;
+
+CREATE INDEX idx_webhook_log_plugin ON webhook_event_log(plugin_id, created_at DESC);
+CREATE INDEX idx_webhook_log_connection ON webhook_event_log(connection_id, created_at DESC);
+CREATE INDEX idx_webhook_log_status ON webhook_event_log(status);
+CREATE INDEX idx_webhook_log_created ON webhook_event_log(created_at DESC);
+
+COMMENT ON TABLE webhook_event_log IS '웹훅 이벤트 로그 테이블 (created_at 일 단위 파티션)';
+COMMENT ON COLUMN webhook_event_log.plugin_id IS '플러그인 ID';
+
+-- 범위 밖 데이터 보호용 기본 파티션 (정상 운영 시 비어 있어야 함)
+CREATE TABLE webhook_event_log_default PARTITION OF webhook_event_log DEFAULT;
+
+-- ===================================================================
+-- 일 단위 파티션 생성 함수 (UTC 기준, 이미 있으면 무시)
+-- ===================================================================
+CREATE OR REPLACE FUNCTION create_webhook_event_log_partition(p_day DATE) RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := 'webhook_event_log_p' || to_char(p_day, 'YYYYMMDD');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF webhook_event_log FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            p_day::timestamp AT TIME ZONE 'UTC',
+            (p_day + 1)::timestamp AT TIME ZONE 'UTC');
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터 기간 + 향후 7일 파티션 생성
+DO $$
+DECLARE
+    start_day DATE;
+    d DATE;
+BEGIN
+    SELECT COALESCE(MIN((created_at AT TIME ZONE 'UTC')::date), (NOW() AT TIME ZONE 'UTC')::date)
+    INTO start_day
+    FROM webhook_event_log_legacy;
+
+    d := start_day;
+    WHILE d <= (NOW() AT TIME ZONE 'UTC')::date + 7 LOOP
+        PERFORM create_webhook_event_log_partition(d);
+        d := d + 1;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO webhook_event_log (id, plugin_id, connection_id, event_type, external_id, payload,
+                               status, error_message, processed_at, created_at)
+SELECT id, plugin_id, connection_id, event_type, external_id, payload,
+       status, error_message, processed_at, created_at
+FROM webhook_event_log_legacy;
+
+DROP TABLE webhook_event_log_legacy;
@@ -0,0 +1,18 @@
+-- ===================================================================
+-- DOP Global Apps - webhook_event_log 페이로드 압축 저장
+-- V8: 압축 페이로드(bytea) 컬럼 추가
+--     신규 행은 payload_data에 deflate 압축 저장, 기존 payload(TEXT)는 조회용으로 유지
+-- ===================================================================
+
+ALTER TABLE webhook_event_log
+    ADD COLUMN payload_data BYTEA,
+    ADD COLUMN payload_encoding VARCHAR(10),
+    ADD COLUMN payload_size INT;
+
+-- 이미 압축된 데이터이므로 TOAST 재압축 없이 행 외부에 저장
+ALTER TABLE webhook_event_log ALTER COLUMN payload_data SET STORAGE EXTERNAL;
+
+COMMENT ON COLUMN webhook_event_log.payload IS '원본 페이로드 (V8 이전 저장분)';
+COMMENT ON COLUMN webhook_event_log.payload_data IS '페이로드 (압축)';
+COMMENT ON COLUMN webhook_event_log.payload_encoding IS '페이로드 인코딩 (deflate, identity)';
+COMMENT ON COLUMN webhook_event_log.payload_size IS '원본 페이로드 크기 (bytes)';
@@ -0,0 +1,8 @@
+-- V9: 로그 목록 keyset 페이지네이션용 인덱스
+-- (created_at, id) 순서로 정렬/범위 비교하므로 id까지 포함한 인덱스로 교체
+
+DROP INDEX IF EXISTS idx_webhook_log_plugin;
+DROP INDEX IF EXISTS idx_webhook_log_connection;
+
+CREATE INDEX idx_webhook_log_plugin ON webhook_event_log(plugin_id, created_at DESC, id DESC);
+CREATE INDEX idx_webhook_log_connection ON webhook_event_log(connection_id, created_at DESC, id DESC);
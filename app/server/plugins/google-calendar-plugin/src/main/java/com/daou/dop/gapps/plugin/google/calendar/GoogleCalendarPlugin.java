@@ -1,5 +1,6 @@
 package com.daou.dop.gapps.plugin.google.calendar;
 
+import com.daou.dop.gapps.plugin.google.calendar.service.GoogleAuthService;
 import org.pf4j.Plugin;
 import org.pf4j.PluginWrapper;
 
@@ -7,4 +8,10 @@ public class GoogleCalendarPlugin extends Plugin {
     public GoogleCalendarPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
+
+    @Override
+    public void stop() {
+        // 캐시된 클라이언트, 공유 HttpTransport, 토큰 갱신 스케줄러 정리
+        GoogleAuthService.shutdown();
+    }
 }
@@ -7,6 +7,7 @@ import com.daou.dop.gapps.plugin.sdk.CredentialContext;
 import com.daou.dop.gapps.plugin.sdk.ExecuteRequest;
 import com.daou.dop.gapps.plugin.sdk.ExecuteResponse;
 import com.daou.dop.gapps.plugin.sdk.PluginExecutor;
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.calendar.Calendar;
 import org.pf4j.Extension;
@@ -29,7 +30,7 @@ public class GoogleCalendarPluginExecutor implements PluginExecutor {
     private static final Logger log = LoggerFactory.getLogger(GoogleCalendarPluginExecutor.class);
     private static final String PLUGIN_ID = "google-calendar";
 
-    private final GoogleAuthService authService = new GoogleAuthService();
+    private final GoogleAuthService authService = GoogleAuthService.getInstance();
     private final Map<String, ActionHandler> handlers = new HashMap<>();
 
     public GoogleCalendarPluginExecutor() {
@@ -85,7 +86,7 @@ public class GoogleCalendarPluginExecutor implements PluginExecutor {
         log.debug("Executing action: {} with handler: {}", action, handler.getClass().getSimpleName());
 
         try {
-            // Calendar 서비스 생성
+            // Calendar 서비스 조회 (인증 정보별 캐시)
             Calendar calendarApi = authService.createCalendarService(credential);
             GoogleCalendarService calendarService = new GoogleCalendarService(calendarApi);
 
@@ -116,7 +117,10 @@ public class GoogleCalendarPluginExecutor implements PluginExecutor {
             case 401 -> ExecuteResponse.error(401, "Authentication failed: " + message);
             case 403 -> ExecuteResponse.error(403, "Permission denied: " + message);
             case 404 -> ExecuteResponse.error(404, "Resource not found: " + message);
-            case 429 -> ExecuteResponse.error(429, "Rate limit exceeded: " + message);
+            case 429 -> ExecuteResponse.error(429, "Rate limit exceeded: " + message)
+                    .withRateLimit(RateLimitInfo.fromHeaders(name -> e.getHeaders() != null
+                            ? e.getHeaders().getFirstHeaderStringValue(name)
+                            : null));
             default -> ExecuteResponse.error(statusCode, "Google API error: " + message);
         };
     }
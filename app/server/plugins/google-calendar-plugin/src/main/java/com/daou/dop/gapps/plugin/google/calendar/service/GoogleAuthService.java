@@ -3,6 +3,7 @@ package com.daou.dop.gapps.plugin.google.calendar.service;
 import com.daou.dop.gapps.plugin.sdk.CredentialContext;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.CalendarScopes;
@@ -15,34 +16,111 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Google 인증 서비스
  * - Service Account JSON 키 파일 기반 인증
  * - Domain-Wide Delegation 지원
  * - Application Default Credentials (ADC) 지원
+ *
+ * <p>인증 정보별로 GoogleCredentials와 Calendar 클라이언트를 캐시하고, 모든 클라이언트가
+ * 하나의 HttpTransport(TLS 신뢰 저장소, 커넥션 풀)를 공유한다.
+ * <ul>
+ *   <li>캐시된 토큰은 백그라운드에서 만료 전에 갱신되어 요청 경로에서 토큰 발급을 기다리지 않는다</li>
+ *   <li>{@link #IDLE_TIMEOUT} 동안 사용되지 않은 항목은 제거된다</li>
+ *   <li>플러그인 중지 시 {@link #shutdown()}으로 스케줄러와 Transport를 정리한다</li>
+ * </ul>
  */
 public class GoogleAuthService {
 
     private static final Logger log = LoggerFactory.getLogger(GoogleAuthService.class);
     private static final String APPLICATION_NAME = "DaouOffice-GlobalApps";
 
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration MAINTENANCE_INTERVAL = Duration.ofMinutes(1);
+
     // TODO: 운영 시 제거 - 로컬 테스트용 하드코딩 경로
     private static final String LOCAL_JSON_KEY_PATH =
             System.getProperty("user.home") + "/.config/gcloud/application_default_credentials.json";
 
+    private static volatile GoogleAuthService instance;
+
+    private final Map<String, CachedClient> clients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenance;
+    private HttpTransport transport;
+
+    private GoogleAuthService() {
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("google-auth-maintenance").factory());
+        long intervalMillis = MAINTENANCE_INTERVAL.toMillis();
+        maintenance.scheduleWithFixedDelay(this::maintain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 플러그인 공용 인스턴스
+     */
+    public static GoogleAuthService getInstance() {
+        GoogleAuthService current = instance;
+        if (current == null) {
+            synchronized (GoogleAuthService.class) {
+                current = instance;
+                if (current == null) {
+                    current = new GoogleAuthService();
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 공용 인스턴스 정리 (플러그인 중지 시)
+     */
+    public static void shutdown() {
+        GoogleAuthService current;
+        synchronized (GoogleAuthService.class) {
+            current = instance;
+            instance = null;
+        }
+        if (current != null) {
+            current.close();
+        }
+    }
+
     /**
-     * CredentialContext에서 Calendar 서비스 생성
-     * TODO: 운영 시 하드코딩 경로 제거 필요
+     * CredentialContext에서 Calendar 서비스 조회 (캐시, 없으면 생성)
+     * 캐시 키는 실제로 로드하는 키 파일 경로다.
+     * TODO: 운영 시 하드코딩 경로 제거 필요 - 인증 정보 해석을 바꿀 때 캐시 키도 그 해석이 사용하는 값으로 구성
      */
     public Calendar createCalendarService(CredentialContext credential) throws IOException, GeneralSecurityException {
         // 로컬 테스트: 하드코딩 경로 사용
-        GoogleCredentials credentials = loadCredentialsFromFile(LOCAL_JSON_KEY_PATH);
-        credentials = credentials.createScoped(Collections.singletonList(CalendarScopes.CALENDAR));
+        String keyPath = LOCAL_JSON_KEY_PATH;
+
+        CachedClient client = clients.get(keyPath);
+        if (client == null) {
+            CachedClient created = loadClient(keyPath);
+            client = clients.putIfAbsent(keyPath, created);
+            if (client == null) {
+                client = created;
+                log.debug("Using local JSON key: {}", keyPath);
+            }
+        }
+        client.touch();
+        return client.calendar();
+    }
+
+    private CachedClient loadClient(String filePath) throws IOException, GeneralSecurityException {
+        GoogleCredentials credentials = loadCredentialsFromFile(filePath)
+                .createScoped(Collections.singletonList(CalendarScopes.CALENDAR));
         credentials.refreshIfExpired();
-        log.debug("Using local JSON key: {}", LOCAL_JSON_KEY_PATH);
-        return buildCalendarService(credentials);
+        return new CachedClient(credentials, buildCalendarService(credentials));
     }
 
     /**
@@ -55,16 +133,87 @@ public class GoogleAuthService {
     }
 
     /**
-     * Calendar 서비스 빌드
+     * Calendar 서비스 빌드 (공유 Transport 사용)
      */
     private Calendar buildCalendarService(GoogleCredentials credentials) throws GeneralSecurityException, IOException {
         HttpRequestInitializer requestInitializer = new HttpCredentialsAdapter(credentials);
 
         return new Calendar.Builder(
-                GoogleNetHttpTransport.newTrustedTransport(),
+                sharedTransport(),
                 GsonFactory.getDefaultInstance(),
                 requestInitializer)
                 .setApplicationName(APPLICATION_NAME)
                 .build();
     }
+
+    private synchronized HttpTransport sharedTransport() throws GeneralSecurityException, IOException {
+        if (transport == null) {
+            transport = GoogleNetHttpTransport.newTrustedTransport();
+        }
+        return transport;
+    }
+
+    /**
+     * 유휴 항목 제거 및 만료 임박 토큰 선제 갱신
+     */
+    private void maintain() {
+        long now = System.nanoTime();
+        clients.forEach((key, client) -> {
+            if (now - client.lastAccessNanos() > IDLE_TIMEOUT.toNanos()) {
+                clients.remove(key, client);
+                log.debug("Evicted idle Google client: {}", key);
+                return;
+            }
+            try {
+                client.credentials().refreshIfExpired();
+            } catch (IOException e) {
+                log.warn("Background Google token refresh failed: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Background Google token refresh error", e);
+            }
+        });
+    }
+
+    private void close() {
+        maintenance.shutdownNow();
+        clients.clear();
+        synchronized (this) {
+            if (transport != null) {
+                try {
+                    transport.shutdown();
+                } catch (IOException e) {
+                    log.warn("Failed to shut down Google HTTP transport: {}", e.getMessage());
+                }
+                transport = null;
+            }
+        }
+    }
+
+    private static final class CachedClient {
+
+        private final GoogleCredentials credentials;
+        private final Calendar calendar;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private CachedClient(GoogleCredentials credentials, Calendar calendar) {
+            this.credentials = credentials;
+            this.calendar = calendar;
+        }
+
+        GoogleCredentials credentials() {
+            return credentials;
+        }
+
+        Calendar calendar() {
+            return calendar;
+        }
+
+        long lastAccessNanos() {
+            return lastAccessNanos;
+        }
+
+        void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
 }
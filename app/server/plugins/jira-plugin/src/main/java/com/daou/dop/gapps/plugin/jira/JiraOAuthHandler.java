@@ -1,5 +1,8 @@
 package com.daou.dop.gapps.plugin.jira;
 
+import com.daou.dop.gapps.plugin.sdk.DefaultHttpClientService;
+import com.daou.dop.gapps.plugin.sdk.HttpClientService;
+import com.daou.dop.gapps.plugin.sdk.HttpClientServiceAware;
 import com.daou.dop.gapps.plugin.sdk.OAuthException;
 import com.daou.dop.gapps.plugin.sdk.OAuthHandler;
 import com.daou.dop.gapps.plugin.sdk.PluginConfig;
@@ -13,7 +16,6 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -29,7 +31,7 @@ import java.util.Map;
  * <p>참고: https://developer.atlassian.com/cloud/jira/platform/oauth-2-3lo-apps/
  */
 @Extension
-public class JiraOAuthHandler implements OAuthHandler {
+public class JiraOAuthHandler implements OAuthHandler, HttpClientServiceAware {
 
     private static final Logger log = LoggerFactory.getLogger(JiraOAuthHandler.class);
     private static final String PLUGIN_ID = "jira";
@@ -40,16 +42,19 @@ public class JiraOAuthHandler implements OAuthHandler {
 
     private static final String DEFAULT_SCOPES = "read:jira-user read:jira-work write:jira-work offline_access";
 
-    private final HttpClient httpClient;
+    // 호스트 공용 클라이언트가 주입되기 전에는 SDK 기본 클라이언트 사용
+    private volatile HttpClientService httpClient = DefaultHttpClientService.getInstance();
     private final ObjectMapper objectMapper;
 
     public JiraOAuthHandler() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
+    @Override
+    public void setHttpClientService(HttpClientService httpClientService) {
+        this.httpClient = httpClientService;
+    }
+
     @Override
     public String getPluginId() {
         return PLUGIN_ID;
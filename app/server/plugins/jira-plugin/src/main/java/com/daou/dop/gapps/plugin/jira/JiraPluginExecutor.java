@@ -1,9 +1,14 @@
 package com.daou.dop.gapps.plugin.jira;
 
+import com.daou.dop.gapps.plugin.sdk.AsyncSupport;
 import com.daou.dop.gapps.plugin.sdk.CredentialContext;
+import com.daou.dop.gapps.plugin.sdk.DefaultHttpClientService;
 import com.daou.dop.gapps.plugin.sdk.ExecuteRequest;
 import com.daou.dop.gapps.plugin.sdk.ExecuteResponse;
+import com.daou.dop.gapps.plugin.sdk.HttpClientService;
+import com.daou.dop.gapps.plugin.sdk.HttpClientServiceAware;
 import com.daou.dop.gapps.plugin.sdk.PluginExecutor;
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.pf4j.Extension;
@@ -12,22 +17,25 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Jira API 실행을 위한 PluginExecutor 구현
  */
 @Extension
-public class JiraPluginExecutor implements PluginExecutor {
+public class JiraPluginExecutor implements PluginExecutor, HttpClientServiceAware {
 
     private static final Logger log = LoggerFactory.getLogger(JiraPluginExecutor.class);
     private static final String PLUGIN_ID = "jira";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
 
     private static final List<String> SUPPORTED_ACTIONS = List.of(
             "myself",
@@ -35,16 +43,19 @@ public class JiraPluginExecutor implements PluginExecutor {
             "project"
     );
 
-    private final HttpClient httpClient;
+    // 호스트 공용 클라이언트가 주입되기 전에는 SDK 기본 클라이언트 사용
+    private volatile HttpClientService httpClient = DefaultHttpClientService.getInstance();
     private final ObjectMapper objectMapper;
 
     public JiraPluginExecutor() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
+    @Override
+    public void setHttpClientService(HttpClientService httpClientService) {
+        this.httpClient = httpClientService;
+    }
+
     @Override
     public String getPluginId() {
         return PLUGIN_ID;
@@ -57,6 +68,54 @@ public class JiraPluginExecutor implements PluginExecutor {
 
     @Override
     public ExecuteResponse execute(ExecuteRequest request) {
+        ExecuteResponse invalid = validate(request);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        HttpRequest httpRequest = toHttpRequest(request);
+        try {
+            return toExecuteResponse(httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ExecuteResponse.error("Jira API call interrupted");
+        } catch (Exception e) {
+            log.error("Jira API call failed: {}", httpRequest.uri(), e);
+            return ExecuteResponse.error("Jira API error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 비동기 실행 (HttpClient.sendAsync - 응답 대기 중 스레드를 점유하지 않음)
+     * 반환된 stage를 취소하면 진행 중인 HTTP 교환도 취소된다.
+     */
+    @Override
+    public CompletionStage<ExecuteResponse> executeAsync(ExecuteRequest request) {
+        ExecuteResponse invalid = validate(request);
+        if (invalid != null) {
+            return CompletableFuture.completedFuture(invalid);
+        }
+
+        HttpRequest httpRequest = toHttpRequest(request);
+        CompletableFuture<HttpResponse<String>> exchange =
+                httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<ExecuteResponse> result = exchange.handle((response, error) -> {
+            if (error == null) {
+                return toExecuteResponse(response);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            log.error("Jira API call failed: {}", httpRequest.uri(), cause);
+            return ExecuteResponse.error("Jira API error: " + cause.getMessage());
+        });
+        return AsyncSupport.propagateCancel(result, exchange);
+    }
+
+    /**
+     * 요청 검증 (인증, 액션, cloudId)
+     *
+     * @return 오류 응답, 유효하면 null
+     */
+    private ExecuteResponse validate(ExecuteRequest request) {
         CredentialContext credential = request.credential();
 
         // 인증 검증
@@ -77,29 +136,48 @@ public class JiraPluginExecutor implements PluginExecutor {
             return ExecuteResponse.error(400, "Unsupported action: " + action);
         }
 
+        if (cloudId(credential) == null) {
+            return ExecuteResponse.error(400, "cloudId not found in credential metadata");
+        }
+
+        if (request.remainingTime(REQUEST_TIMEOUT).isZero()) {
+            return ExecuteResponse.error(504, "Deadline exceeded");
+        }
+        return null;
+    }
+
+    private String cloudId(CredentialContext credential) {
         // metadata에서 cloudId 추출
         Map<String, String> metadata = credential.metadata();
         String cloudId = metadata != null ? metadata.get("cloudId") : null;
-        if (cloudId == null || cloudId.isBlank()) {
-            return ExecuteResponse.error(400, "cloudId not found in credential metadata");
-        }
+        return cloudId != null && !cloudId.isBlank() ? cloudId : null;
+    }
 
-        log.debug("Executing action: {} for cloudId: {}", action, cloudId);
+    /**
+     * 액션별 Jira API 요청 생성 (validate 통과 후 호출)
+     */
+    private HttpRequest toHttpRequest(ExecuteRequest request) {
+        CredentialContext credential = request.credential();
+        String cloudId = cloudId(credential);
+        // 호스트 마감이 있으면 남은 시간 안에서만 대기
+        Duration timeout = request.remainingTime(REQUEST_TIMEOUT);
 
-        return switch (action) {
-            case "myself" -> handleMyself(credential, cloudId);
-            case "search" -> handleSearch(request, credential, cloudId);
-            case "project" -> handleProject(credential, cloudId);
-            default -> ExecuteResponse.error(400, "Unsupported action: " + action);
+        log.debug("Executing action: {} for cloudId: {}", request.action(), cloudId);
+
+        return switch (request.action()) {
+            case "myself" -> myselfRequest(credential, cloudId, timeout);
+            case "search" -> searchRequest(request, credential, cloudId, timeout);
+            case "project" -> projectRequest(credential, cloudId, timeout);
+            default -> throw new IllegalArgumentException("Unsupported action: " + request.action());
         };
     }
 
     /**
      * 현재 사용자 정보 조회
      */
-    private ExecuteResponse handleMyself(CredentialContext credential, String cloudId) {
+    private HttpRequest myselfRequest(CredentialContext credential, String cloudId, Duration timeout) {
         String url = String.format("https://api.atlassian.com/ex/jira/%s/rest/api/3/myself", cloudId);
-        return callJiraApi("GET", url, null, credential.accessToken());
+        return buildRequest("GET", url, null, credential.accessToken(), timeout);
     }
 
     /**
@@ -107,7 +185,8 @@ public class JiraPluginExecutor implements PluginExecutor {
      * API 변경: /rest/api/3/search → /rest/api/3/search/jql (POST)
      * 참고: https://developer.atlassian.com/cloud/jira/platform/rest/v3/api-group-issue-search/#api-rest-api-3-search-jql-post
      */
-    private ExecuteResponse handleSearch(ExecuteRequest request, CredentialContext credential, String cloudId) {
+    private HttpRequest searchRequest(ExecuteRequest request, CredentialContext credential, String cloudId,
+                                      Duration timeout) {
         String jql = request.getStringParam("jql");
         Integer maxResults = request.getIntParam("maxResults");
 
@@ -126,7 +205,7 @@ public class JiraPluginExecutor implements PluginExecutor {
         }
         bodyBuilder.append("}");
 
-        return callJiraApi("POST", url, bodyBuilder.toString(), credential.accessToken());
+        return buildRequest("POST", url, bodyBuilder.toString(), credential.accessToken(), timeout);
     }
 
     private String escapeJson(String value) {
@@ -141,42 +220,43 @@ public class JiraPluginExecutor implements PluginExecutor {
     /**
      * 프로젝트 목록 조회
      */
-    private ExecuteResponse handleProject(CredentialContext credential, String cloudId) {
+    private HttpRequest projectRequest(CredentialContext credential, String cloudId, Duration timeout) {
         String url = String.format("https://api.atlassian.com/ex/jira/%s/rest/api/3/project", cloudId);
-        return callJiraApi("GET", url, null, credential.accessToken());
+        return buildRequest("GET", url, null, credential.accessToken(), timeout);
     }
 
     /**
-     * Jira API 호출
+     * Jira API 요청 생성
      */
-    private ExecuteResponse callJiraApi(String method, String url, String body, String accessToken) {
-        try {
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Authorization", "Bearer " + accessToken)
-                    .header("Accept", "application/json")
-                    .timeout(Duration.ofSeconds(30));
-
-            if ("GET".equals(method)) {
-                requestBuilder.GET();
-            } else if ("POST".equals(method)) {
-                requestBuilder.header("Content-Type", "application/json");
-                requestBuilder.POST(HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
-            }
+    private HttpRequest buildRequest(String method, String url, String body, String accessToken, Duration timeout) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Accept", "application/json")
+                .timeout(timeout);
 
-            HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+        if ("GET".equals(method)) {
+            requestBuilder.GET();
+        } else if ("POST".equals(method)) {
+            requestBuilder.header("Content-Type", "application/json");
+            requestBuilder.POST(HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
+        }
+        return requestBuilder.build();
+    }
 
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                log.debug("Jira API success: {}", url);
-                return ExecuteResponse.success(response.statusCode(), response.body());
-            } else {
-                log.warn("Jira API error: {} - {}", response.statusCode(), response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
-            }
+    /**
+     * Jira API 응답 변환
+     */
+    private ExecuteResponse toExecuteResponse(HttpResponse<String> response) {
+        // Jira Cloud는 X-RateLimit-* / Retry-After 헤더로 남은 한도를 알려준다
+        RateLimitInfo rateLimit = RateLimitInfo.fromHeaders(name -> response.headers().firstValue(name).orElse(null));
 
-        } catch (Exception e) {
-            log.error("Jira API call failed: {}", url, e);
-            return ExecuteResponse.error("Jira API error: " + e.getMessage());
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            log.debug("Jira API success: {}", response.uri());
+            return ExecuteResponse.success(response.statusCode(), response.body()).withRateLimit(rateLimit);
+        } else {
+            log.warn("Jira API error: {} - {}", response.statusCode(), response.body());
+            return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(rateLimit);
         }
     }
 
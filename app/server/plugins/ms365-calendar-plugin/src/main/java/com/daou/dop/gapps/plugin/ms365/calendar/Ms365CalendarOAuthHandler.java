@@ -1,5 +1,6 @@
 package com.daou.dop.gapps.plugin.ms365.calendar;
 
+import com.daou.dop.gapps.plugin.ms365.calendar.client.OkHttpClients;
 import com.daou.dop.gapps.plugin.ms365.calendar.dto.UserProfile;
 import com.daou.dop.gapps.plugin.sdk.OAuthException;
 import com.daou.dop.gapps.plugin.sdk.OAuthHandler;
@@ -10,7 +11,6 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import okhttp3.FormBody;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
@@ -24,7 +24,6 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Microsoft 365 Calendar OAuth 핸들러 구현
@@ -39,14 +38,9 @@ public class Ms365CalendarOAuthHandler implements OAuthHandler {
     private static final String GRAPH_API_BASE_URL = "https://graph.microsoft.com/v1.0";
     private static final String DEFAULT_SCOPES = "User.Read Calendars.Read Calendars.ReadWrite offline_access";
 
-    private final OkHttpClient httpClient;
     private final Gson gson;
 
     public Ms365CalendarOAuthHandler() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
         this.gson = new GsonBuilder().create();
     }
 
@@ -129,7 +123,7 @@ public class Ms365CalendarOAuthHandler implements OAuthHandler {
                     .post(formBody)
                     .build();
 
-            try (Response response = httpClient.newCall(request).execute()) {
+            try (Response response = OkHttpClients.shared().newCall(request).execute()) {
                 String responseBody = response.body() != null ? response.body().string() : "";
 
                 if (!response.isSuccessful()) {
@@ -197,7 +191,7 @@ public class Ms365CalendarOAuthHandler implements OAuthHandler {
                     .post(formBody)
                     .build();
 
-            try (Response response = httpClient.newCall(request).execute()) {
+            try (Response response = OkHttpClients.shared().newCall(request).execute()) {
                 String responseBody = response.body() != null ? response.body().string() : "";
 
                 if (!response.isSuccessful()) {
@@ -259,7 +253,7 @@ public class Ms365CalendarOAuthHandler implements OAuthHandler {
                 .get()
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        try (Response response = OkHttpClients.shared().newCall(request).execute()) {
             String responseBody = response.body() != null ? response.body().string() : "";
 
             if (!response.isSuccessful()) {
@@ -1,5 +1,6 @@
 package com.daou.dop.gapps.plugin.ms365.calendar;
 
+import com.daou.dop.gapps.plugin.ms365.calendar.client.OkHttpClients;
 import org.pf4j.Plugin;
 import org.pf4j.PluginWrapper;
 
@@ -10,4 +11,12 @@ public class Ms365CalendarPlugin extends Plugin {
     public Ms365CalendarPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
+
+    /**
+     * 공용 HTTP 클라이언트 정리 (재시작 시 다음 호출에서 새로 생성)
+     */
+    @Override
+    public void stop() {
+        OkHttpClients.shutdown();
+    }
 }
@@ -3,6 +3,7 @@ package com.daou.dop.gapps.plugin.ms365.calendar;
 import com.daou.dop.gapps.plugin.ms365.calendar.client.GraphApiClient;
 import com.daou.dop.gapps.plugin.ms365.calendar.client.GraphApiClient.GraphApiResponse;
 import com.daou.dop.gapps.plugin.ms365.calendar.dto.CreateEventRequest;
+import com.daou.dop.gapps.plugin.sdk.AsyncSupport;
 import com.daou.dop.gapps.plugin.sdk.CredentialContext;
 import com.daou.dop.gapps.plugin.sdk.ExecuteRequest;
 import com.daou.dop.gapps.plugin.sdk.ExecuteResponse;
@@ -11,8 +12,13 @@ import org.pf4j.Extension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Microsoft 365 Calendar API 실행을 위한 PluginExecutor 구현
@@ -22,6 +28,7 @@ public class Ms365CalendarPluginExecutor implements PluginExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(Ms365CalendarPluginExecutor.class);
     private static final String PLUGIN_ID = "ms365-calendar";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
 
     private static final List<String> SUPPORTED_ACTIONS = List.of(
             "me.get",
@@ -47,232 +54,247 @@ public class Ms365CalendarPluginExecutor implements PluginExecutor {
         return SUPPORTED_ACTIONS;
     }
 
+    /**
+     * 동기 실행 (비동기 구현의 결과를 대기)
+     */
     @Override
     public ExecuteResponse execute(ExecuteRequest request) {
+        try {
+            return AsyncSupport.await(executeAsync(request));
+        } catch (CancellationException e) {
+            return ExecuteResponse.error("Graph API call canceled");
+        }
+    }
+
+    /**
+     * 비동기 실행 (OkHttp enqueue - 응답 대기 중 스레드를 점유하지 않음)
+     * 반환된 stage를 취소하면 진행 중인 Call도 취소된다.
+     */
+    @Override
+    public CompletionStage<ExecuteResponse> executeAsync(ExecuteRequest request) {
         CredentialContext credential = request.credential();
 
         // 인증 검증
         if (credential == null || !credential.isOAuth()) {
-            return ExecuteResponse.error(401, "Access token required");
+            return completed(ExecuteResponse.error(401, "Access token required"));
         }
 
         if (credential.isExpired()) {
-            return ExecuteResponse.error(401, "Token expired");
+            return completed(ExecuteResponse.error(401, "Token expired"));
         }
 
         String action = request.action();
         if (action == null || action.isBlank()) {
-            return ExecuteResponse.error(400, "Action is required");
+            return completed(ExecuteResponse.error(400, "Action is required"));
         }
 
         if (!supportsAction(action)) {
-            return ExecuteResponse.error(400, "Unsupported action: " + action);
+            return completed(ExecuteResponse.error(400, "Unsupported action: " + action));
+        }
+
+        // 호스트 마감이 있으면 남은 시간 안에서만 대기
+        Duration timeout = request.remainingTime(REQUEST_TIMEOUT);
+        if (timeout.isZero()) {
+            return completed(ExecuteResponse.error(504, "Deadline exceeded"));
         }
 
         log.debug("Executing action: {}", action);
 
         return switch (action) {
-            case "me.get" -> handleGetMe(credential);
-            case "calendars.list" -> handleCalendarsList(credential);
-            case "events.list" -> handleEventsList(request, credential);
-            case "events.create" -> handleEventsCreate(request, credential);
-            case "events.delete" -> handleEventsDelete(request, credential);
-            default -> ExecuteResponse.error(400, "Unsupported action: " + action);
+            case "me.get" -> handleGetMe(credential, timeout);
+            case "calendars.list" -> handleCalendarsList(credential, timeout);
+            case "events.list" -> handleEventsList(request, credential, timeout);
+            case "events.create" -> handleEventsCreate(request, credential, timeout);
+            case "events.delete" -> handleEventsDelete(request, credential, timeout);
+            default -> completed(ExecuteResponse.error(400, "Unsupported action: " + action));
         };
     }
 
     /**
      * GET /me - 현재 사용자 프로필 조회
      */
-    private ExecuteResponse handleGetMe(CredentialContext credential) {
-        try {
-            GraphApiResponse response = graphApiClient.get("/me", credential.accessToken());
-
+    private CompletableFuture<ExecuteResponse> handleGetMe(CredentialContext credential, Duration timeout) {
+        return map(graphApiClient.getAsync("/me", credential.accessToken(), timeout), response -> {
             if (response.isSuccessful()) {
                 log.info("Successfully fetched user profile");
                 return ExecuteResponse.success(response.statusCode(), response.body());
             } else {
                 log.warn("Failed to fetch user profile: {}", response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
+                return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(response.rateLimit());
             }
-
-        } catch (Exception e) {
-            log.error("Failed to get user profile", e);
-            return ExecuteResponse.error("Failed to get user profile: " + e.getMessage());
-        }
+        }, "Failed to get user profile");
     }
 
     /**
      * GET /me/calendars - 캘린더 목록 조회
      */
-    private ExecuteResponse handleCalendarsList(CredentialContext credential) {
-        try {
-            GraphApiResponse response = graphApiClient.get("/me/calendars", credential.accessToken());
-
+    private CompletableFuture<ExecuteResponse> handleCalendarsList(CredentialContext credential, Duration timeout) {
+        return map(graphApiClient.getAsync("/me/calendars", credential.accessToken(), timeout), response -> {
             if (response.isSuccessful()) {
                 log.info("Successfully fetched calendars list");
                 return ExecuteResponse.success(response.statusCode(), response.body());
             } else {
                 log.warn("Failed to fetch calendars: {}", response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
+                return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(response.rateLimit());
             }
-
-        } catch (Exception e) {
-            log.error("Failed to list calendars", e);
-            return ExecuteResponse.error("Failed to list calendars: " + e.getMessage());
-        }
+        }, "Failed to list calendars");
     }
 
     /**
      * GET /me/calendars/{calendarId}/events - 이벤트 목록 조회
      */
-    private ExecuteResponse handleEventsList(ExecuteRequest request, CredentialContext credential) {
-        try {
-            String calendarId = request.getStringParam("calendarId");
-            Integer top = request.getIntParam("top");
-            String filter = request.getStringParam("filter");
-            String orderBy = request.getStringParam("orderBy");
-            String select = request.getStringParam("select");
-
-            // calendarId가 없으면 기본 캘린더 사용
-            String path = calendarId != null && !calendarId.isBlank()
-                    ? "/me/calendars/" + calendarId + "/events"
-                    : "/me/events";
-
-            // 쿼리 파라미터 추가
-            StringBuilder queryParams = new StringBuilder();
-            List<String> params = new ArrayList<>();
-
-            if (top != null) {
-                params.add("$top=" + top);
-            }
-            if (filter != null && !filter.isBlank()) {
-                params.add("$filter=" + filter);
-            }
-            if (orderBy != null && !orderBy.isBlank()) {
-                params.add("$orderby=" + orderBy);
-            }
-            if (select != null && !select.isBlank()) {
-                params.add("$select=" + select);
-            }
-
-            if (!params.isEmpty()) {
-                queryParams.append("?").append(String.join("&", params));
-            }
+    private CompletableFuture<ExecuteResponse> handleEventsList(ExecuteRequest request, CredentialContext credential,
+                                                                Duration timeout) {
+        String calendarId = request.getStringParam("calendarId");
+        Integer top = request.getIntParam("top");
+        String filter = request.getStringParam("filter");
+        String orderBy = request.getStringParam("orderBy");
+        String select = request.getStringParam("select");
+
+        // calendarId가 없으면 기본 캘린더 사용
+        String path = calendarId != null && !calendarId.isBlank()
+                ? "/me/calendars/" + calendarId + "/events"
+                : "/me/events";
+
+        // 쿼리 파라미터 추가
+        StringBuilder queryParams = new StringBuilder();
+        List<String> params = new ArrayList<>();
+
+        if (top != null) {
+            params.add("$top=" + top);
+        }
+        if (filter != null && !filter.isBlank()) {
+            params.add("$filter=" + filter);
+        }
+        if (orderBy != null && !orderBy.isBlank()) {
+            params.add("$orderby=" + orderBy);
+        }
+        if (select != null && !select.isBlank()) {
+            params.add("$select=" + select);
+        }
 
-            GraphApiResponse response = graphApiClient.get(path + queryParams, credential.accessToken());
+        if (!params.isEmpty()) {
+            queryParams.append("?").append(String.join("&", params));
+        }
 
+        return map(graphApiClient.getAsync(path + queryParams, credential.accessToken(), timeout), response -> {
             if (response.isSuccessful()) {
                 log.info("Successfully fetched events list");
                 return ExecuteResponse.success(response.statusCode(), response.body());
             } else {
                 log.warn("Failed to fetch events: {}", response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
+                return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(response.rateLimit());
             }
-
-        } catch (Exception e) {
-            log.error("Failed to list events", e);
-            return ExecuteResponse.error("Failed to list events: " + e.getMessage());
-        }
+        }, "Failed to list events");
     }
 
     /**
      * POST /me/calendars/{calendarId}/events - 이벤트 생성
      */
-    private ExecuteResponse handleEventsCreate(ExecuteRequest request, CredentialContext credential) {
-        try {
-            String calendarId = request.getStringParam("calendarId");
-            String subject = request.getStringParam("subject");
-            String body = request.getStringParam("body");
-            String startDateTime = request.getStringParam("startDateTime");
-            String endDateTime = request.getStringParam("endDateTime");
-            String timeZone = request.getStringParam("timeZone");
-            String location = request.getStringParam("location");
-            Boolean isAllDay = request.getBooleanParam("isAllDay");
-            Boolean isOnlineMeeting = request.getBooleanParam("isOnlineMeeting");
-
-            // 필수 파라미터 검증
-            if (subject == null || subject.isBlank()) {
-                return ExecuteResponse.error(400, "subject is required");
-            }
-            if (startDateTime == null || startDateTime.isBlank()) {
-                return ExecuteResponse.error(400, "startDateTime is required");
-            }
-            if (endDateTime == null || endDateTime.isBlank()) {
-                return ExecuteResponse.error(400, "endDateTime is required");
-            }
-
-            // 기본 타임존
-            String tz = timeZone != null && !timeZone.isBlank() ? timeZone : "Asia/Seoul";
+    private CompletableFuture<ExecuteResponse> handleEventsCreate(ExecuteRequest request, CredentialContext credential,
+                                                                  Duration timeout) {
+        String calendarId = request.getStringParam("calendarId");
+        String subject = request.getStringParam("subject");
+        String body = request.getStringParam("body");
+        String startDateTime = request.getStringParam("startDateTime");
+        String endDateTime = request.getStringParam("endDateTime");
+        String timeZone = request.getStringParam("timeZone");
+        String location = request.getStringParam("location");
+        Boolean isAllDay = request.getBooleanParam("isAllDay");
+        Boolean isOnlineMeeting = request.getBooleanParam("isOnlineMeeting");
+
+        // 필수 파라미터 검증
+        if (subject == null || subject.isBlank()) {
+            return completed(ExecuteResponse.error(400, "subject is required"));
+        }
+        if (startDateTime == null || startDateTime.isBlank()) {
+            return completed(ExecuteResponse.error(400, "startDateTime is required"));
+        }
+        if (endDateTime == null || endDateTime.isBlank()) {
+            return completed(ExecuteResponse.error(400, "endDateTime is required"));
+        }
 
-            // 이벤트 생성 요청 빌드
-            CreateEventRequest.Builder eventBuilder = CreateEventRequest.builder()
-                    .subject(subject)
-                    .start(startDateTime, tz)
-                    .end(endDateTime, tz);
+        // 기본 타임존
+        String tz = timeZone != null && !timeZone.isBlank() ? timeZone : "Asia/Seoul";
 
-            if (body != null && !body.isBlank()) {
-                eventBuilder.body("HTML", body);
-            }
-            if (location != null && !location.isBlank()) {
-                eventBuilder.location(location);
-            }
-            if (isAllDay != null) {
-                eventBuilder.isAllDay(isAllDay);
-            }
-            if (isOnlineMeeting != null && isOnlineMeeting) {
-                eventBuilder.isOnlineMeeting(true);
-                eventBuilder.onlineMeetingProvider("teamsForBusiness");
-            }
+        // 이벤트 생성 요청 빌드
+        CreateEventRequest.Builder eventBuilder = CreateEventRequest.builder()
+                .subject(subject)
+                .start(startDateTime, tz)
+                .end(endDateTime, tz);
 
-            CreateEventRequest eventRequest = eventBuilder.build();
+        if (body != null && !body.isBlank()) {
+            eventBuilder.body("HTML", body);
+        }
+        if (location != null && !location.isBlank()) {
+            eventBuilder.location(location);
+        }
+        if (isAllDay != null) {
+            eventBuilder.isAllDay(isAllDay);
+        }
+        if (isOnlineMeeting != null && isOnlineMeeting) {
+            eventBuilder.isOnlineMeeting(true);
+            eventBuilder.onlineMeetingProvider("teamsForBusiness");
+        }
 
-            // calendarId가 없으면 기본 캘린더 사용
-            String path = calendarId != null && !calendarId.isBlank()
-                    ? "/me/calendars/" + calendarId + "/events"
-                    : "/me/events";
+        CreateEventRequest eventRequest = eventBuilder.build();
 
-            GraphApiResponse response = graphApiClient.post(path, credential.accessToken(), eventRequest);
+        // calendarId가 없으면 기본 캘린더 사용
+        String path = calendarId != null && !calendarId.isBlank()
+                ? "/me/calendars/" + calendarId + "/events"
+                : "/me/events";
 
+        return map(graphApiClient.postAsync(path, credential.accessToken(), eventRequest, timeout), response -> {
             if (response.isSuccessful()) {
                 log.info("Successfully created event: {}", subject);
                 return ExecuteResponse.success(response.statusCode(), response.body());
             } else {
                 log.warn("Failed to create event: {}", response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
+                return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(response.rateLimit());
             }
-
-        } catch (Exception e) {
-            log.error("Failed to create event", e);
-            return ExecuteResponse.error("Failed to create event: " + e.getMessage());
-        }
+        }, "Failed to create event");
     }
 
     /**
      * DELETE /me/events/{eventId} - 이벤트 삭제
      */
-    private ExecuteResponse handleEventsDelete(ExecuteRequest request, CredentialContext credential) {
-        try {
-            String eventId = request.getStringParam("eventId");
-
-            if (eventId == null || eventId.isBlank()) {
-                return ExecuteResponse.error(400, "eventId is required");
-            }
+    private CompletableFuture<ExecuteResponse> handleEventsDelete(ExecuteRequest request, CredentialContext credential,
+                                                                  Duration timeout) {
+        String eventId = request.getStringParam("eventId");
 
-            String path = "/me/events/" + eventId;
-            GraphApiResponse response = graphApiClient.delete(path, credential.accessToken());
+        if (eventId == null || eventId.isBlank()) {
+            return completed(ExecuteResponse.error(400, "eventId is required"));
+        }
 
+        String path = "/me/events/" + eventId;
+        return map(graphApiClient.deleteAsync(path, credential.accessToken(), timeout), response -> {
             if (response.isSuccessful()) {
                 log.info("Successfully deleted event: {}", eventId);
                 return ExecuteResponse.success(response.statusCode(), "{\"success\": true, \"eventId\": \"" + eventId + "\"}");
             } else {
                 log.warn("Failed to delete event: {}", response.body());
-                return ExecuteResponse.error(response.statusCode(), response.body());
+                return ExecuteResponse.error(response.statusCode(), response.body()).withRateLimit(response.rateLimit());
             }
+        }, "Failed to delete event");
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to delete event", e);
-            return ExecuteResponse.error("Failed to delete event: " + e.getMessage());
-        }
+    /**
+     * Graph 응답 변환 (반환 stage를 취소하면 원본 Call도 취소)
+     *
+     * @param failureMessage 변환 중 예외 발생 시 오류 메시지 접두어
+     */
+    private CompletableFuture<ExecuteResponse> map(
+            CompletableFuture<GraphApiResponse> call,
+            Function<GraphApiResponse, ExecuteResponse> mapper,
+            String failureMessage) {
+        CompletableFuture<ExecuteResponse> result = call.thenApply(mapper).exceptionally(e -> {
+            log.error(failureMessage, e);
+            return ExecuteResponse.error(failureMessage + ": " + e.getMessage());
+        });
+        return AsyncSupport.propagateCancel(result, call);
+    }
+
+    private static CompletableFuture<ExecuteResponse> completed(ExecuteResponse response) {
+        return CompletableFuture.completedFuture(response);
     }
 }
@@ -1,9 +1,11 @@
 package com.daou.dop.gapps.plugin.ms365.calendar.client;
 
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
@@ -11,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -22,22 +26,16 @@ public class GraphApiClient {
     private static final String GRAPH_API_BASE_URL = "https://graph.microsoft.com/v1.0";
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
-    private final OkHttpClient httpClient;
     private final Gson gson;
 
     public GraphApiClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .build();
         this.gson = new GsonBuilder().create();
     }
 
     /**
-     * GET 요청 실행
+     * GET 요청 비동기 실행
      */
-    public GraphApiResponse get(String path, String accessToken) {
+    public CompletableFuture<GraphApiResponse> getAsync(String path, String accessToken, Duration timeout) {
         String url = GRAPH_API_BASE_URL + path;
         log.debug("GET {}", url);
 
@@ -48,13 +46,13 @@ public class GraphApiClient {
                 .get()
                 .build();
 
-        return execute(request);
+        return enqueue(request, timeout);
     }
 
     /**
-     * POST 요청 실행
+     * POST 요청 비동기 실행
      */
-    public GraphApiResponse post(String path, String accessToken, Object body) {
+    public CompletableFuture<GraphApiResponse> postAsync(String path, String accessToken, Object body, Duration timeout) {
         String url = GRAPH_API_BASE_URL + path;
         log.debug("POST {}", url);
 
@@ -68,13 +66,13 @@ public class GraphApiClient {
                 .post(requestBody)
                 .build();
 
-        return execute(request);
+        return enqueue(request, timeout);
     }
 
     /**
-     * DELETE 요청 실행
+     * DELETE 요청 비동기 실행
      */
-    public GraphApiResponse delete(String path, String accessToken) {
+    public CompletableFuture<GraphApiResponse> deleteAsync(String path, String accessToken, Duration timeout) {
         String url = GRAPH_API_BASE_URL + path;
         log.debug("DELETE {}", url);
 
@@ -84,21 +82,55 @@ public class GraphApiClient {
                 .delete()
                 .build();
 
-        return execute(request);
+        return enqueue(request, timeout);
     }
 
-    private GraphApiResponse execute(Request request) {
-        try (Response response = httpClient.newCall(request).execute()) {
-            int statusCode = response.code();
-            String responseBody = response.body() != null ? response.body().string() : "";
-
-            log.debug("Response status: {}, body length: {}", statusCode, responseBody.length());
-
-            return new GraphApiResponse(statusCode, responseBody, response.isSuccessful());
-        } catch (IOException e) {
-            log.error("HTTP request failed: {}", e.getMessage(), e);
-            return new GraphApiResponse(500, "{\"error\": \"" + e.getMessage() + "\"}", false);
-        }
+    /**
+     * Dispatcher 큐에 요청 등록 (OkHttp enqueue)
+     * 응답 대기 중 호출 스레드를 점유하지 않으며, 반환된 future를 취소하면 Call도 취소된다.
+     * 전송 실패는 예외 대신 500 응답으로 완료한다.
+     *
+     * @param timeout 전체 호출 타임아웃 (연결 ~ 본문 수신)
+     */
+    private CompletableFuture<GraphApiResponse> enqueue(Request request, Duration timeout) {
+        // 플러그인 재시작 후에도 살아 있는 Dispatcher를 쓰도록 호출마다 공용 클라이언트를 조회
+        Call call = OkHttpClients.shared().newCall(request);
+        call.timeout().timeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        CompletableFuture<GraphApiResponse> result = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    int statusCode = response.code();
+                    String responseBody = response.body() != null ? response.body().string() : "";
+
+                    log.debug("Response status: {}, body length: {}", statusCode, responseBody.length());
+
+                    // Graph는 스로틀링 시 429 + Retry-After를 반환한다
+                    RateLimitInfo rateLimit = RateLimitInfo.fromHeaders(response::header);
+                    result.complete(new GraphApiResponse(statusCode, responseBody, response.isSuccessful(), rateLimit));
+                } catch (IOException e) {
+                    onFailure(call, e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) {
+                    log.debug("HTTP request canceled: {}", request.url());
+                } else {
+                    log.error("HTTP request failed: {}", e.getMessage(), e);
+                }
+                result.complete(new GraphApiResponse(500, "{\"error\": \"" + e.getMessage() + "\"}", false, null));
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return result;
     }
 
     /**
@@ -107,6 +139,7 @@ public class GraphApiClient {
     public record GraphApiResponse(
             int statusCode,
             String body,
-            boolean isSuccessful
+            boolean isSuccessful,
+            RateLimitInfo rateLimit
     ) {}
 }
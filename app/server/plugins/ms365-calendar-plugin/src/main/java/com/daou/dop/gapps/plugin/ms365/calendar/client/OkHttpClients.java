@@ -0,0 +1,59 @@
+package com.daou.dop.gapps.plugin.ms365.calendar.client;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플러그인 공용 OkHttpClient
+ *
+ * <p>Graph API 호출과 OAuth 토큰 요청이 같은 커넥션 풀과 Dispatcher를 공유한다.
+ * (login.microsoftonline.com / graph.microsoft.com 연결을 재사용해 TLS 핸드셰이크를 줄임)
+ * 플러그인 중지 시 {@link #shutdown()}으로 풀과 스레드를 정리하며,
+ * 같은 ClassLoader에서 다시 시작되면 다음 {@link #shared()} 호출에서 새 클라이언트를 만든다.
+ * 중지 후에도 호출할 수 있도록 사용하는 쪽은 클라이언트를 필드에 보관하지 말고 호출마다 {@link #shared()}로 얻는다.
+ */
+public final class OkHttpClients {
+
+    private static volatile OkHttpClient shared;
+
+    private OkHttpClients() {
+    }
+
+    public static OkHttpClient shared() {
+        OkHttpClient client = shared;
+        if (client != null) {
+            return client;
+        }
+        synchronized (OkHttpClients.class) {
+            if (shared == null) {
+                shared = create();
+            }
+            return shared;
+        }
+    }
+
+    public static void shutdown() {
+        OkHttpClient client;
+        synchronized (OkHttpClients.class) {
+            client = shared;
+            shared = null;
+        }
+        if (client != null) {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+
+    private static OkHttpClient create() {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(32, 5, TimeUnit.MINUTES))
+                .connectTimeout(30, TimeUnit.SECONDS)
+                .readTimeout(30, TimeUnit.SECONDS)
+                .writeTimeout(30, TimeUnit.SECONDS)
+                .build();
+        client.dispatcher().setMaxRequestsPerHost(64);
+        return client;
+    }
+}
@@ -0,0 +1,110 @@
+package com.daou.dop.gapps.plugin.sdk;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 실행 유틸리티
+ *
+ * <p>{@link PluginExecutor#executeAsync}의 기본 구현과 async-native 구현이 함께 사용한다.
+ * <ul>
+ *   <li>{@link #supplyInterruptibly}: 동기 작업을 Virtual Thread에서 실행, cancel(true) 시 스레드를 interrupt</li>
+ *   <li>{@link #propagateCancel}: 파생 future가 먼저 끝나면(취소, 타임아웃) 원본 호출도 취소</li>
+ *   <li>{@link #await}: 비동기 구현 위에서 동기 메서드를 제공할 때 사용</li>
+ * </ul>
+ */
+public final class AsyncSupport {
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("plugin-exec-", 0).factory();
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * 동기 작업을 Virtual Thread에서 실행
+     * 반환된 future를 {@code cancel(true)}하면 작업 스레드를 interrupt하므로
+     * 블로킹 I/O(HttpClient.send 등)가 InterruptedException으로 중단된다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 future
+     */
+    public static <T> CompletableFuture<T> supplyInterruptibly(Supplier<T> task) {
+        InterruptibleFuture<T> future = new InterruptibleFuture<>();
+        Thread worker = THREAD_FACTORY.newThread(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        future.worker = worker;
+        worker.start();
+        return future;
+    }
+
+    /**
+     * 파생 future가 원본보다 먼저 완료되면(취소, 타임아웃) 원본을 취소
+     *
+     * @param downstream 호출 측에 반환할 future
+     * @param upstream   실제 외부 호출 (HttpClient.sendAsync 등)
+     * @return downstream
+     */
+    public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> downstream, Future<?> upstream) {
+        downstream.whenComplete((result, error) -> {
+            if (!upstream.isDone()) {
+                upstream.cancel(true);
+            }
+        });
+        return downstream;
+    }
+
+    /**
+     * 비동기 결과 대기 (동기 메서드 구현용)
+     * 대기 중 interrupt되면 진행 중인 호출을 취소한다.
+     *
+     * @throws CancellationException 호출이 취소되었거나 대기 중 interrupt된 경우
+     * @throws CompletionException   호출이 예외로 끝난 경우 (원인 예외 포함)
+     */
+    public static <T> T await(CompletionStage<T> stage) {
+        CompletableFuture<T> future = stage.toCompletableFuture();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for plugin call");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * 취소 시 작업 스레드를 interrupt하는 CompletableFuture
+     * (파생 stage는 일반 CompletableFuture로 생성되어 interrupt 대상이 아님)
+     */
+    private static final class InterruptibleFuture<T> extends CompletableFuture<T> {
+
+        private volatile Thread worker;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Thread thread = worker;
+            if (cancelled && mayInterruptIfRunning && thread != null) {
+                thread.interrupt();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.daou.dop.gapps.plugin.sdk;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기본 {@link HttpClientService} 구현 (호스트 주입 전 fallback)
+ * 프로세스(플러그인 ClassLoader)당 하나의 HttpClient를 공유하며, 연결 제한과 메트릭은 없다.
+ * 타임아웃이 없는 요청에는 호스트 구현과 같이 기본 타임아웃(30초)을 적용한다.
+ */
+public final class DefaultHttpClientService implements HttpClientService {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final DefaultHttpClientService INSTANCE = new DefaultHttpClientService();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+
+    private DefaultHttpClientService() {
+    }
+
+    public static DefaultHttpClientService getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return httpClient.send(withDefaultTimeout(request), bodyHandler);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return httpClient.sendAsync(withDefaultTimeout(request), bodyHandler);
+    }
+
+    /**
+     * 타임아웃이 없는 요청에 기본 타임아웃 적용 (응답 없는 서버에서 무기한 대기 방지)
+     */
+    private static HttpRequest withDefaultTimeout(HttpRequest request) {
+        return request.timeout().isPresent()
+                ? request
+                : HttpRequest.newBuilder(request, (name, value) -> true).timeout(REQUEST_TIMEOUT).build();
+    }
+}
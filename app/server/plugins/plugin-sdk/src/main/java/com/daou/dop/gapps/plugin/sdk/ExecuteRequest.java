@@ -2,6 +2,8 @@ package com.daou.dop.gapps.plugin.sdk;
 
 import lombok.Builder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -11,14 +13,33 @@ import java.util.Map;
  * @param action     실행할 액션 (chat.postMessage, send-email 등)
  * @param params     액션 파라미터
  * @param credential 인증 정보
+ * @param deadline   호스트가 결과를 기다리는 마감 시각 (없으면 null)
  */
 @Builder
 public record ExecuteRequest(
         String pluginId,
         String action,
         Map<String, Object> params,
-        CredentialContext credential
+        CredentialContext credential,
+        Instant deadline
 ) {
+    /**
+     * 마감까지 남은 시간 (외부 호출 타임아웃 산정용)
+     *
+     * @param fallback 마감이 없을 때 또는 상한으로 사용할 시간
+     * @return min(마감까지 남은 시간, fallback), 이미 지났으면 Duration.ZERO
+     */
+    public Duration remainingTime(Duration fallback) {
+        if (deadline == null) {
+            return fallback;
+        }
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(fallback) < 0 ? remaining : fallback;
+    }
+
     /**
      * 파라미터에서 String 값 조회
      */
@@ -7,13 +7,19 @@ package com.daou.dop.gapps.plugin.sdk;
  * @param statusCode HTTP 상태 코드
  * @param body       응답 본문 (JSON)
  * @param error      에러 메시지 (실패 시)
+ * @param rateLimit  Provider 호출 한도 정보 (응답 헤더에 있는 경우, 없으면 null)
  */
 public record ExecuteResponse(
         boolean success,
         int statusCode,
         String body,
-        String error
+        String error,
+        RateLimitInfo rateLimit
 ) {
+    public ExecuteResponse(boolean success, int statusCode, String body, String error) {
+        this(success, statusCode, body, error, null);
+    }
+
     /**
      * 성공 응답 생성
      */
@@ -41,4 +47,11 @@ public record ExecuteResponse(
     public static ExecuteResponse error(String error) {
         return error(500, error);
     }
+
+    /**
+     * 호출 한도 정보 추가
+     */
+    public ExecuteResponse withRateLimit(RateLimitInfo rateLimit) {
+        return new ExecuteResponse(success, statusCode, body, error, rateLimit);
+    }
 }
@@ -0,0 +1,47 @@
+package com.daou.dop.gapps.plugin.sdk;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 호스트가 제공하는 외부 HTTP 호출 서비스
+ *
+ * <p>플러그인이 각자 HttpClient를 만들지 않고 호스트의 공유 커넥션 풀(HTTP/2, keep-alive)을 사용하도록 한다.
+ * 호스트 구현은 목적지 호스트별 동시 연결 제한, 기본 타임아웃, 메트릭을 적용한다.
+ * 확장점이 {@link HttpClientServiceAware}를 구현하면 호스트가 주입하며,
+ * 주입 전(단독 실행, 테스트)에는 {@link DefaultHttpClientService}를 사용한다.
+ */
+public interface HttpClientService {
+
+    /**
+     * 요청 빌더 생성 (호스트 기본 타임아웃 적용)
+     *
+     * @param uri 요청 URI
+     * @return 요청 빌더
+     */
+    HttpRequest.Builder newRequest(URI uri);
+
+    /**
+     * 동기 요청 실행
+     * 요청에 타임아웃이 없으면 호스트 기본 타임아웃을 적용한다.
+     *
+     * @param request     요청
+     * @param bodyHandler 응답 본문 처리기
+     * @return 응답
+     */
+    <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException;
+
+    /**
+     * 비동기 요청 실행
+     * 반환된 future를 {@code cancel(true)}하면 진행 중인 요청을 중단한다.
+     *
+     * @param request     요청
+     * @param bodyHandler 응답 본문 처리기
+     * @return 응답 future
+     */
+    <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+}
@@ -0,0 +1,13 @@
+package com.daou.dop.gapps.plugin.sdk;
+
+/**
+ * 호스트의 {@link HttpClientService}를 주입받는 확장점 표시
+ * 호스트는 확장점을 등록할 때 한 번 호출한다.
+ */
+public interface HttpClientServiceAware {
+
+    /**
+     * @param httpClientService 호스트 공유 HTTP 클라이언트
+     */
+    void setHttpClientService(HttpClientService httpClientService);
+}
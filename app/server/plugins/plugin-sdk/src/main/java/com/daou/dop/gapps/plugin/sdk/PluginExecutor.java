@@ -3,6 +3,7 @@ package com.daou.dop.gapps.plugin.sdk;
 import org.pf4j.ExtensionPoint;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 플러그인 API 실행을 위한 확장점
@@ -31,6 +32,23 @@ public interface PluginExecutor extends ExtensionPoint {
      */
     ExecuteResponse execute(ExecuteRequest request);
 
+    /**
+     * API 비동기 실행
+     *
+     * <p>기본 구현은 {@link #execute}를 Virtual Thread에서 실행한다.
+     * 논블로킹 클라이언트(HttpClient.sendAsync, OkHttp enqueue 등)를 쓰는 플러그인은 재정의해 스레드 점유 없이 처리할 수 있다.
+     * <ul>
+     *   <li>취소: 호스트가 반환된 stage를 {@code toCompletableFuture().cancel(true)}하면 진행 중인 호출을 중단해야 한다</li>
+     *   <li>마감: {@link ExecuteRequest#deadline()}이 있으면 외부 호출 타임아웃을 {@link ExecuteRequest#remainingTime}으로 맞춘다</li>
+     * </ul>
+     *
+     * @param request 실행 요청 (credential, deadline 포함)
+     * @return 실행 결과 stage (오류는 가능한 한 ExecuteResponse.error로 완료)
+     */
+    default CompletionStage<ExecuteResponse> executeAsync(ExecuteRequest request) {
+        return AsyncSupport.supplyInterruptibly(() -> execute(request));
+    }
+
     /**
      * 액션 지원 여부 확인
      *
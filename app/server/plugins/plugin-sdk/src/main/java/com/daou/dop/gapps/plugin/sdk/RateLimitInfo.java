@@ -0,0 +1,104 @@
+package com.daou.dop.gapps.plugin.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * Provider 응답의 호출 한도 정보
+ * 호스트는 이 값으로 (plugin, externalId, action) 단위 호출 속도를 조정한다.
+ *
+ * @param limit      창(window)당 허용 호출 수 (X-RateLimit-Limit, 없으면 null)
+ * @param remaining  남은 호출 수 (X-RateLimit-Remaining, 없으면 null)
+ * @param resetAt    한도가 초기화되는 시각 (X-RateLimit-Reset, 없으면 null)
+ * @param retryAfter 다시 호출할 수 있을 때까지의 대기 시간 (Retry-After, 없으면 null)
+ */
+public record RateLimitInfo(
+        Integer limit,
+        Integer remaining,
+        Instant resetAt,
+        Duration retryAfter
+) {
+    /**
+     * Retry-After만 있는 경우
+     */
+    public static RateLimitInfo retryAfter(Duration retryAfter) {
+        return new RateLimitInfo(null, null, null, retryAfter);
+    }
+
+    /**
+     * 응답 헤더에서 한도 정보 추출
+     *
+     * @param header 헤더 이름 → 값 (없으면 null)
+     * @return 한도 관련 헤더가 하나도 없으면 null
+     */
+    public static RateLimitInfo fromHeaders(Function<String, String> header) {
+        Integer limit = parseInt(header.apply("X-RateLimit-Limit"));
+        Integer remaining = parseInt(header.apply("X-RateLimit-Remaining"));
+        Instant resetAt = parseReset(header.apply("X-RateLimit-Reset"));
+        Duration retryAfter = parseRetryAfter(header.apply("Retry-After"));
+
+        if (limit == null && remaining == null && resetAt == null && retryAfter == null) {
+            return null;
+        }
+        return new RateLimitInfo(limit, remaining, resetAt, retryAfter);
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 숫자면 epoch 초(또는 작은 값이면 남은 초), 아니면 ISO-8601 시각
+     */
+    private static Instant parseReset(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds > 1_000_000_000L
+                    ? Instant.ofEpochSecond(seconds)
+                    : Instant.now().plusSeconds(seconds);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            return OffsetDateTime.parse(trimmed).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 초 단위 숫자 또는 HTTP-date
+     */
+    private static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration until = Duration.between(Instant.now(), at);
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
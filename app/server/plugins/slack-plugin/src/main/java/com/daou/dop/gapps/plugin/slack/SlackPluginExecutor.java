@@ -4,6 +4,7 @@ import com.daou.dop.gapps.plugin.sdk.CredentialContext;
 import com.daou.dop.gapps.plugin.sdk.ExecuteRequest;
 import com.daou.dop.gapps.plugin.sdk.ExecuteResponse;
 import com.daou.dop.gapps.plugin.sdk.PluginExecutor;
+import com.daou.dop.gapps.plugin.sdk.RateLimitInfo;
 import com.slack.api.Slack;
 import com.slack.api.methods.MethodsClient;
 import com.slack.api.methods.SlackApiException;
@@ -109,7 +110,9 @@ public class SlackPluginExecutor implements PluginExecutor {
                 return ExecuteResponse.error(400, response.getError());
             }
 
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            return handleSlackApiError(e);
+        } catch (IOException e) {
             log.error("Slack API error", e);
             return ExecuteResponse.error("Slack API error: " + e.getMessage());
         } catch (Exception e) {
@@ -141,7 +144,9 @@ public class SlackPluginExecutor implements PluginExecutor {
                 return ExecuteResponse.error(400, response.getError());
             }
 
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            return handleSlackApiError(e);
+        } catch (IOException e) {
             log.error("Slack API error", e);
             return ExecuteResponse.error("Slack API error: " + e.getMessage());
         } catch (Exception e) {
@@ -170,7 +175,9 @@ public class SlackPluginExecutor implements PluginExecutor {
                 return ExecuteResponse.error(400, response.getError());
             }
 
-        } catch (IOException | SlackApiException e) {
+        } catch (SlackApiException e) {
+            return handleSlackApiError(e);
+        } catch (IOException e) {
             log.error("Slack API error", e);
             return ExecuteResponse.error("Slack API error: " + e.getMessage());
         } catch (Exception e) {
@@ -178,4 +185,18 @@ public class SlackPluginExecutor implements PluginExecutor {
             return ExecuteResponse.error("Unexpected error: " + e.getMessage());
         }
     }
+
+    /**
+     * Slack API 오류 처리
+     * 429(ratelimited)는 Retry-After를 함께 전달해 호출 측이 대기 후 재시도하도록 한다.
+     */
+    private ExecuteResponse handleSlackApiError(SlackApiException e) {
+        if (e.getResponse() != null && e.getResponse().code() == 429) {
+            log.warn("Slack API rate limited: retryAfter={}", e.getResponse().header("Retry-After"));
+            return ExecuteResponse.error(429, "Rate limit exceeded: " + e.getMessage())
+                    .withRateLimit(RateLimitInfo.fromHeaders(name -> e.getResponse().header(name)));
+        }
+        log.error("Slack API error", e);
+        return ExecuteResponse.error("Slack API error: " + e.getMessage());
+    }
 }